@@ -0,0 +1,330 @@
+package com.ring_ding_dong.jobserv.common.histogram;
+
+import com.ring_ding_dong.jobserv.common.internal.CounterArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A mergeable, thread-safe histogram of non-negative long values, typically latencies in
+ * nanoseconds. Values are counted in log-linear buckets: every power of two is split into
+ * {@value #SUB_BUCKET_COUNT} equally sized sub-buckets, which bounds the relative error of any
+ * reported percentile to about 3% while keeping the bucket layout fixed for every instance.
+ *
+ * <p>Because all instances share the same bucket layout, histograms recorded in different threads,
+ * processes or time windows can be merged by simply adding their bucket counts. The static bucket
+ * helpers ({@link #bucketIndex(long)}, {@link #bucketLowerBound(int)} and
+ * {@link #bucketUpperBound(int)}) expose that layout to encoders and storage layers.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.record(System.nanoTime() - start);
+ * long p99 = histogram.getValueAtPercentile(99.0);
+ * }
+ * </pre>
+ *
+ * <p>Readers may observe a histogram while it is being recorded into; the returned statistics are
+ * then a close approximation rather than an atomic snapshot.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LatencyHistogram {
+
+    /**
+     * Number of bits used to split each power of two into sub-buckets.
+     */
+    public static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * Number of sub-buckets per power of two.
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Total number of buckets needed to cover every non-negative long value.
+     */
+    public static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+    private final CounterArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder sum;
+    private final LongAccumulator min;
+    private final LongAccumulator max;
+
+    /**
+     * Constructs a new, empty LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new CounterArray(BUCKET_COUNT);
+        this.totalCount = new LongAdder();
+        this.sum = new LongAdder();
+        this.min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        this.max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the index of the bucket that counts the given value. Negative values are counted in
+     * the first bucket.
+     *
+     * @param value the value to locate
+     * @return the bucket index, between 0 (inclusive) and {@link #BUCKET_COUNT} (exclusive)
+     */
+    public static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    /**
+     * Returns the smallest value counted by the given bucket.
+     *
+     * @param index the bucket index
+     * @return the inclusive lower bound of the bucket
+     */
+    public static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        return (long) (SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1))) << shift;
+    }
+
+    /**
+     * Returns the largest value counted by the given bucket.
+     *
+     * @param index the bucket index
+     * @return the inclusive upper bound of the bucket
+     */
+    public static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        return bucketLowerBound(index) + ((1L << shift) - 1);
+    }
+
+    /**
+     * Returns the value used to represent every value counted by the given bucket, which is the
+     * middle of the bucket's range.
+     *
+     * @param index the bucket index
+     * @return the representative value of the bucket
+     */
+    public static long bucketMidpoint(int index) {
+        long lower = bucketLowerBound(index);
+        return lower + (bucketUpperBound(index) - lower) / 2;
+    }
+
+    /**
+     * Records a single occurrence of the given value.
+     *
+     * @param value the value to record, typically a duration in nanoseconds
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Records the given value {@code count} times.
+     *
+     * @param value the value to record
+     * @param count the number of occurrences, ignored if not positive
+     */
+    public void record(long value, long count) {
+        if (count <= 0) {
+            return;
+        }
+        long clamped = Math.max(0, value);
+        counts.add(bucketIndex(clamped), count);
+        totalCount.add(count);
+        sum.add(clamped * count);
+        min.accumulate(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Adds raw bucket counts and summary statistics to this histogram. This is the building block
+     * for merging histograms and for restoring histograms from an encoded form.
+     *
+     * @param bucketCounts the per-bucket counts, indexed like this histogram's buckets; may be
+     *                     shorter than {@link #BUCKET_COUNT}
+     * @param valueSum     the sum of all values represented by the counts
+     * @param valueMin     the smallest value represented by the counts
+     * @param valueMax     the largest value represented by the counts
+     * @throws IllegalArgumentException if {@code bucketCounts} is longer than
+     *                                  {@link #BUCKET_COUNT}
+     */
+    public void add(long[] bucketCounts, long valueSum, long valueMin, long valueMax) {
+        if (bucketCounts.length > BUCKET_COUNT) {
+            throw new IllegalArgumentException(
+                "Too many buckets: " + bucketCounts.length + " > " + BUCKET_COUNT);
+        }
+        long added = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            if (bucketCounts[i] != 0) {
+                counts.add(i, bucketCounts[i]);
+                added += bucketCounts[i];
+            }
+        }
+        if (added == 0) {
+            return;
+        }
+        totalCount.add(added);
+        sum.add(valueSum);
+        min.accumulate(valueMin);
+        max.accumulate(valueMax);
+    }
+
+    /**
+     * Merges all values recorded in another histogram into this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void add(LatencyHistogram other) {
+        if (other.getCount() == 0) {
+            return;
+        }
+        add(other.getBucketCounts(), other.getSum(), other.getMin(), other.getMax());
+    }
+
+    /**
+     * Returns a copy of the per-bucket counts.
+     *
+     * @return an array of {@link #BUCKET_COUNT} counts
+     */
+    public long[] getBucketCounts() {
+        return counts.snapshot();
+    }
+
+    /**
+     * Returns the number of values counted by the given bucket.
+     *
+     * @param index the bucket index
+     * @return the bucket count
+     */
+    public long getCountAtBucket(int index) {
+        return counts.get(index);
+    }
+
+    /**
+     * Returns the total number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return the sum of recorded values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the smallest recorded value.
+     *
+     * @return the smallest recorded value, or 0 if the histogram is empty
+     */
+    public long getMin() {
+        long value = min.get();
+        return value == Long.MAX_VALUE ? 0 : value;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest recorded value, or 0 if the histogram is empty
+     */
+    public long getMax() {
+        long value = max.get();
+        return value == Long.MIN_VALUE ? 0 : value;
+    }
+
+    /**
+     * Returns the arithmetic mean of all recorded values.
+     *
+     * @return the mean value, or 0 if the histogram is empty
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getSum() / count;
+    }
+
+    /**
+     * Returns the value at the given percentile. The result is the midpoint of the bucket that
+     * contains the requested rank, clamped to the recorded minimum and maximum.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the given percentile, or 0 if the histogram is empty
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long getValueAtPercentile(double percentile) {
+        return valueAtPercentile(getBucketCounts(), percentile, getMin(), getMax());
+    }
+
+    /**
+     * Computes the value at the given percentile of raw bucket counts, using the same rules as
+     * {@link #getValueAtPercentile(double)}.
+     *
+     * @param bucketCounts the per-bucket counts
+     * @param percentile   the percentile, between 0 and 100
+     * @param valueMin     the smallest value represented by the counts
+     * @param valueMax     the largest value represented by the counts
+     * @return the value at the given percentile, or 0 if all counts are zero
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public static long valueAtPercentile(long[] bucketCounts, double percentile, long valueMin,
+        long valueMax) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile out of range: " + percentile);
+        }
+        long total = 0;
+        for (long count : bucketCounts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long cumulative = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            cumulative += bucketCounts[i];
+            if (cumulative >= rank) {
+                return Math.min(valueMax, Math.max(valueMin, bucketMidpoint(i)));
+            }
+        }
+        return valueMax;
+    }
+
+    /**
+     * Returns an independent copy of this histogram.
+     *
+     * @return a new histogram containing the same values
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Removes all recorded values from this histogram.
+     */
+    public void reset() {
+        counts.reset();
+        totalCount.reset();
+        sum.reset();
+        min.reset();
+        max.reset();
+    }
+}
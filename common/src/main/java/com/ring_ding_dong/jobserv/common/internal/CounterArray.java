@@ -0,0 +1,92 @@
+package com.ring_ding_dong.jobserv.common.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size array of counters that can be updated concurrently, such as the buckets of a
+ * latency histogram. Snapshots are not atomic: counters updated while a snapshot is taken may or
+ * may not be included.
+ *
+ * <p>This is the Java 8 variant, backed by an {@link AtomicLongArray}. The Java 9+ variant of the
+ * multi-release JAR updates a plain {@code long[]} through a {@code VarHandle} and reads
+ * snapshots with opaque instead of volatile loads.</p>
+ *
+ * <p>Internal API, subject to change without notice.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CounterArray {
+
+    private final AtomicLongArray counters;
+
+    /**
+     * Constructs a new CounterArray with all counters at zero.
+     *
+     * @param length the number of counters
+     */
+    public CounterArray(int length) {
+        this.counters = new AtomicLongArray(length);
+    }
+
+    /**
+     * Returns the number of counters.
+     *
+     * @return the number of counters
+     */
+    public int length() {
+        return counters.length();
+    }
+
+    /**
+     * Adds one to a counter.
+     *
+     * @param index the counter index
+     */
+    public void increment(int index) {
+        counters.getAndIncrement(index);
+    }
+
+    /**
+     * Adds a (possibly negative) delta to a counter.
+     *
+     * @param index the counter index
+     * @param delta the value to add
+     */
+    public void add(int index, long delta) {
+        counters.getAndAdd(index, delta);
+    }
+
+    /**
+     * Returns the current value of a counter.
+     *
+     * @param index the counter index
+     * @return the counter value
+     */
+    public long get(int index) {
+        return counters.get(index);
+    }
+
+    /**
+     * Copies the current values of all counters.
+     *
+     * @return a new array with one value per counter
+     */
+    public long[] snapshot() {
+        long[] snapshot = new long[counters.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counters.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Sets all counters to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ring_ding_dong.jobserv.common.internal;
+
+import java.util.function.Supplier;
+
+/**
+ * Hands out reusable per-thread scratch objects, such as formatting buffers, so that hot paths do
+ * not allocate. Every {@link #acquire()} must be followed by a {@link #release(Object)} of the same
+ * object on the same thread, and the object must not be used after its release.
+ *
+ * <p>This is the Java 8 variant, which keeps one object per thread in a {@link ThreadLocal}. The
+ * Java 21 variant of the multi-release JAR lends virtual threads a pooled object instead, since
+ * virtual threads are numerous and short-lived and would otherwise each create their own.</p>
+ *
+ * <p>Internal API, subject to change without notice.</p>
+ *
+ * @param <T> the type of the scratch objects
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ThreadScratch<T> {
+
+    private final ThreadLocal<T> local;
+
+    /**
+     * Constructs a new ThreadScratch.
+     *
+     * @param factory creates a scratch object when none is available
+     */
+    public ThreadScratch(Supplier<T> factory) {
+        this.local = ThreadLocal.withInitial(factory);
+    }
+
+    /**
+     * Returns a scratch object for exclusive use by the current thread until released.
+     *
+     * @return the scratch object
+     */
+    public T acquire() {
+        return local.get();
+    }
+
+    /**
+     * Returns a scratch object obtained from {@link #acquire()}.
+     *
+     * @param scratch the scratch object
+     */
+    public void release(T scratch) {
+        // The object stays with its thread
+    }
+}
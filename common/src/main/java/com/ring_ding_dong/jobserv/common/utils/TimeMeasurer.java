@@ -58,7 +58,9 @@ import java.util.function.Supplier;
  */
 public class TimeMeasurer {
 
-    private static final ThreadLocal<Long> START_TIME = new ThreadLocal<>();
+    // One reusable holder per thread, so that start() does not box a Long on every call
+    private static final ThreadLocal<StartTime> START_TIME = ThreadLocal.withInitial(
+        StartTime::new);
 
     private TimeMeasurer() {
         // Private constructor to prevent instantiation
@@ -69,7 +71,9 @@ public class TimeMeasurer {
      * {@link #stop()}.
      */
     public static void start() {
-        START_TIME.set(System.nanoTime());
+        StartTime startTime = START_TIME.get();
+        startTime.running = true;
+        startTime.nanos = System.nanoTime();
     }
 
     /**
@@ -79,27 +83,28 @@ public class TimeMeasurer {
      * @throws IllegalStateException if {@link #start()} was not called before this method
      */
     public static long stop() {
-        Long startTime = START_TIME.get();
-        if (startTime == null) {
+        long now = System.nanoTime();
+        StartTime startTime = START_TIME.get();
+        if (!startTime.running) {
             throw new IllegalStateException("Timer not started");
         }
-        long duration = System.nanoTime() - startTime;
-        START_TIME.remove();
-        return duration;
+        startTime.running = false;
+        return now - startTime.nanos;
     }
 
     /**
-     * Measures the execution time of a given task that returns a result.
+     * Measures the execution time of a given task that returns a result. The start time is kept
+     * on the stack, so this method neither touches nor disturbs a manual measurement of the
+     * calling thread.
      *
      * @param task the task to be measured
      * @param <V>  the type of the result returned by the task
      * @return a MeasurementResult containing the duration and result of the task
      */
     public static <V> MeasurementResult<V> measure(Supplier<V> task) {
-        start();
+        long start = System.nanoTime();
         V result = task.get();
-        long duration = stop();
-        return new MeasurementResult<>(duration, result);
+        return new MeasurementResult<>(System.nanoTime() - start, result);
     }
 
     /**
@@ -124,10 +129,18 @@ public class TimeMeasurer {
      * @throws Exception if the task throws an exception
      */
     public static <V> MeasurementResult<V> measure(Callable<V> task) throws Exception {
-        start();
+        long start = System.nanoTime();
         V result = task.call();
-        long duration = stop();
-        return new MeasurementResult<>(duration, result);
+        return new MeasurementResult<>(System.nanoTime() - start, result);
+    }
+
+    /**
+     * The start time of the manual measurement of one thread.
+     */
+    private static final class StartTime {
+
+        private long nanos;
+        private boolean running;
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.ring_ding_dong.jobserv.common.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A fixed-size array of counters that can be updated concurrently, such as the buckets of a
+ * latency histogram. Snapshots are not atomic: counters updated while a snapshot is taken may or
+ * may not be included.
+ *
+ * <p>This is the Java 9+ variant. Counters live in a plain {@code long[]} updated with atomic
+ * {@code VarHandle} adds; snapshots read them with opaque loads, which need no memory fences since
+ * a snapshot does not order against anything else.</p>
+ *
+ * <p>Internal API, subject to change without notice.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CounterArray {
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] counters;
+
+    /**
+     * Constructs a new CounterArray with all counters at zero.
+     *
+     * @param length the number of counters
+     */
+    public CounterArray(int length) {
+        this.counters = new long[length];
+    }
+
+    /**
+     * Returns the number of counters.
+     *
+     * @return the number of counters
+     */
+    public int length() {
+        return counters.length;
+    }
+
+    /**
+     * Adds one to a counter.
+     *
+     * @param index the counter index
+     */
+    public void increment(int index) {
+        COUNTERS.getAndAdd(counters, index, 1L);
+    }
+
+    /**
+     * Adds a (possibly negative) delta to a counter.
+     *
+     * @param index the counter index
+     * @param delta the value to add
+     */
+    public void add(int index, long delta) {
+        COUNTERS.getAndAdd(counters, index, delta);
+    }
+
+    /**
+     * Returns the current value of a counter.
+     *
+     * @param index the counter index
+     * @return the counter value
+     */
+    public long get(int index) {
+        return (long) COUNTERS.getVolatile(counters, index);
+    }
+
+    /**
+     * Copies the current values of all counters.
+     *
+     * @return a new array with one value per counter
+     */
+    public long[] snapshot() {
+        long[] snapshot = new long[counters.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = (long) COUNTERS.getOpaque(counters, i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Sets all counters to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < counters.length; i++) {
+            COUNTERS.setVolatile(counters, i, 0L);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ring_ding_dong.jobserv.common.histogram;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 15, 16, 17, 100, 1_000, 123_456_789, Long.MAX_VALUE})
+    void testBucketBoundsContainValue(long value) {
+        int index = LatencyHistogram.bucketIndex(value);
+        assertTrue(index >= 0 && index < LatencyHistogram.BUCKET_COUNT);
+        assertTrue(LatencyHistogram.bucketLowerBound(index) <= value);
+        assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+    }
+
+    @Test
+    void testBucketsAreContiguous() {
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertEquals(LatencyHistogram.bucketUpperBound(i - 1) + 1,
+                LatencyHistogram.bucketLowerBound(i));
+        }
+        assertEquals(Long.MAX_VALUE,
+            LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    void testSummaryStatistics() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(30, 2);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(90, histogram.getSum());
+        assertEquals(10, histogram.getMin());
+        assertEquals(30, histogram.getMax());
+        assertEquals(22.5, histogram.getMean());
+    }
+
+    @Test
+    void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000);
+        }
+        assertWithinError(5_000_000, histogram.getValueAtPercentile(50.0));
+        assertWithinError(9_900_000, histogram.getValueAtPercentile(99.0));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100.0));
+    }
+
+    @Test
+    void testMergeAddsCounts() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(100);
+        second.record(5);
+        second.record(1_000);
+
+        first.add(second);
+
+        assertEquals(3, first.getCount());
+        assertEquals(1_105, first.getSum());
+        assertEquals(5, first.getMin());
+        assertEquals(1_000, first.getMax());
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99.0));
+    }
+
+    @Test
+    void testResetClearsValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getCountAtBucket(LatencyHistogram.bucketIndex(42)));
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101.0));
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error < 0.04, "expected ~" + expected + " but was " + actual);
+    }
+}
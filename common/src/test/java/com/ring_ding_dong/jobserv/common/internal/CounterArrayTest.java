@@ -0,0 +1,43 @@
+package com.ring_ding_dong.jobserv.common.internal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class CounterArrayTest {
+
+    @Test
+    void testConcurrentIncrements() throws InterruptedException {
+        CounterArray counters = new CounterArray(4);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    counters.increment(i & 3);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertArrayEquals(new long[]{200_000, 200_000, 200_000, 200_000}, counters.snapshot());
+    }
+
+    @Test
+    void testAddGetAndReset() {
+        CounterArray counters = new CounterArray(3);
+        counters.add(1, 10);
+        counters.add(1, -4);
+        counters.increment(2);
+
+        assertEquals(3, counters.length());
+        assertEquals(6, counters.get(1));
+        assertArrayEquals(new long[]{0, 6, 1}, counters.snapshot());
+
+        counters.reset();
+        assertArrayEquals(new long[3], counters.snapshot());
+    }
+}
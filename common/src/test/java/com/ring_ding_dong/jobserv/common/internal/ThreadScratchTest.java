@@ -0,0 +1,24 @@
+package com.ring_ding_dong.jobserv.common.internal;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ThreadScratchTest {
+
+    @Test
+    void testPlatformThreadsKeepTheirOwnObject() throws InterruptedException {
+        ThreadScratch<StringBuilder> scratch = new ThreadScratch<>(StringBuilder::new);
+        StringBuilder first = scratch.acquire();
+        scratch.release(first);
+        assertSame(first, scratch.acquire());
+
+        AtomicReference<StringBuilder> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(scratch.acquire()));
+        thread.start();
+        thread.join();
+        assertNotSame(first, other.get());
+    }
+}
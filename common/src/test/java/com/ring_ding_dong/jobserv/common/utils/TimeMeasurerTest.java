@@ -0,0 +1,31 @@
+package com.ring_ding_dong.jobserv.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.common.utils.TimeMeasurer.MeasurementResult;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class TimeMeasurerTest {
+
+    @Test
+    void testMeasureDoesNotDisturbManualMeasurement() {
+        TimeMeasurer.start();
+        MeasurementResult<String> result = TimeMeasurer.measure(
+            (Supplier<String>) () -> "done");
+        long duration = TimeMeasurer.stop();
+
+        assertEquals("done", result.getResult());
+        assertTrue(duration >= result.getDuration(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void testStopRequiresStart() {
+        TimeMeasurer.start();
+        TimeMeasurer.stop();
+        assertThrows(IllegalStateException.class, TimeMeasurer::stop);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ring_ding_dong.jobserv.common.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ThreadScratchVirtualThreadTest {
+
+    @Test
+    void testVirtualThreadsShareThePool() throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        ThreadScratch<StringBuilder> scratch = new ThreadScratch<>(() -> {
+            created.incrementAndGet();
+            return new StringBuilder();
+        });
+        AtomicReference<StringBuilder> first = new AtomicReference<>();
+        AtomicReference<StringBuilder> second = new AtomicReference<>();
+
+        Thread.ofVirtual().start(() -> {
+            first.set(scratch.acquire());
+            scratch.release(first.get());
+        }).join();
+        Thread.ofVirtual().start(() -> {
+            second.set(scratch.acquire());
+            scratch.release(second.get());
+        }).join();
+
+        assertSame(first.get(), second.get());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void testConcurrentVirtualThreadsNeverShareAnObject() throws InterruptedException {
+        ThreadScratch<AtomicBoolean> scratch = new ThreadScratch<>(AtomicBoolean::new);
+        AtomicInteger shared = new AtomicInteger();
+        Thread[] threads = new Thread[1_000];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 100; i++) {
+                    AtomicBoolean inUse = scratch.acquire();
+                    if (!inUse.compareAndSet(false, true)) {
+                        shared.incrementAndGet();
+                    }
+                    Thread.yield();
+                    inUse.set(false);
+                    scratch.release(inUse);
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, shared.get());
+    }
+}
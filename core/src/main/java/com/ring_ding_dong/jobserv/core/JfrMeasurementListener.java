@@ -0,0 +1,62 @@
+package com.ring_ding_dong.jobserv.core;
+
+/**
+ * A {@link MeasurementListener} that emits every measurement as a Java Flight Recorder event, so
+ * that execution times line up with GC, lock and I/O events in the same recording.
+ *
+ * <p>This is the Java 8 variant, which does nothing: the JFR event API is only available from
+ * Java 11, where the multi-release JAR provides the real implementation. Registering the listener
+ * is therefore safe on every Java version; use {@link #isAvailable()} to find out whether events
+ * are emitted.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * factory.getProcessor().addListener(new JfrMeasurementListener());
+ * // java -XX:StartFlightRecording ... records one "jobserv.<class>.<method>" event type per plan
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class JfrMeasurementListener implements MeasurementListener {
+
+    /**
+     * Constructs a new JfrMeasurementListener that emits every measured invocation.
+     */
+    public JfrMeasurementListener() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new JfrMeasurementListener.
+     *
+     * @param aboveThresholdOnly whether to emit only invocations that reach the threshold of their
+     *                           plan
+     */
+    public JfrMeasurementListener(boolean aboveThresholdOnly) {
+        // Nothing to set up without JFR
+    }
+
+    /**
+     * Returns whether this listener emits JFR events on the running Java version.
+     *
+     * @return false on Java 8
+     */
+    public static boolean isAvailable() {
+        return false;
+    }
+
+    @Override
+    public void onMeasurement(String methodName, long durationNanos, Throwable failure) {
+        // JFR events require Java 11
+    }
+
+    @Override
+    public void onMeasurement(MeasurementPlan plan, long durationNanos, Throwable failure,
+        Object context) {
+        // JFR events require Java 11
+    }
+}
@@ -1,11 +1,18 @@
-
 package com.ring_ding_dong.jobserv.core;
 
 import com.ring_ding_dong.jobserv.annotation.MeasureTime;
 import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 
 /**
@@ -13,15 +20,26 @@ import java.util.concurrent.TimeUnit;
  * the results according to the annotation's parameters.
  * <p>
  * This class uses caching to improve performance for repeated method invocations.
+ * <p>
+ * Every measured execution time is also passed to the registered {@link MeasurementListener}s,
+ * whether or not it exceeds the logging threshold.
+ * <p>
+ * The annotation of a method is turned into a {@link MeasurementPlan} on its first invocation.
+ * Plans can be replaced at runtime with {@link #updatePlans(String, UnaryOperator)}, for example
+ * through {@link MeasurementPlanControl}. A plan is published by replacing a volatile reference, so
+ * apart from the first invocation of a method, which creates its plan under the processor's lock,
+ * measured invocations never lock and keep doing a single cache lookup per call.
  *
  * @author chimaek
- * @version 1.0
+ * @version 1.2
  * @since 2024-10-08
  */
 public class MeasureTimeProcessor {
 
     private final TimeLogger logger;
-    private final ConcurrentHashMap<Method, MeasureTime> annotationCache;
+    private final ConcurrentHashMap<Method, PlanHolder> planCache;
+    private final ConcurrentHashMap<String, TimeLogger> loggerRoutes;
+    private volatile MeasurementListener[] listeners;
 
     /**
      * Constructs a new MeasureTimeProcessor with the specified logger.
@@ -30,7 +48,135 @@ public class MeasureTimeProcessor {
      */
     public MeasureTimeProcessor(TimeLogger logger) {
         this.logger = logger;
-        this.annotationCache = new ConcurrentHashMap<>();
+        this.planCache = new ConcurrentHashMap<>();
+        this.loggerRoutes = new ConcurrentHashMap<>();
+        this.listeners = new MeasurementListener[0];
+    }
+
+    /**
+     * Registers a listener that receives every measured execution time.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addListener(MeasurementListener listener) {
+        MeasurementListener[] current = listeners;
+        MeasurementListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void removeListener(MeasurementListener listener) {
+        listeners = Arrays.stream(listeners)
+            .filter(registered -> registered != listener)
+            .toArray(MeasurementListener[]::new);
+    }
+
+    /**
+     * Registers a logger under a route name. Methods whose {@link MeasureTime#loggerName()} or
+     * plan names this route log to it instead of the default logger; plans already routed to the
+     * name switch to the new logger immediately.
+     *
+     * @param route  the route name
+     * @param logger the logger to route to
+     * @throws IllegalArgumentException if the route name is empty
+     */
+    public synchronized void registerLogger(String route, TimeLogger logger) {
+        if (route.isEmpty()) {
+            throw new IllegalArgumentException("Logger route must not be empty");
+        }
+        loggerRoutes.put(route, logger);
+        for (PlanHolder holder : planCache.values()) {
+            MeasurementPlan plan = holder.plan;
+            if (plan != null && plan.getLoggerRoute().equals(route)) {
+                holder.plan = plan.withLoggerRoute(route, logger);
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the registered logger routes.
+     *
+     * @return the route names, sorted
+     */
+    public List<String> getLoggerRoutes() {
+        return new ArrayList<>(new TreeSet<>(loggerRoutes.keySet()));
+    }
+
+    /**
+     * Returns the current plans of all measured methods invoked so far.
+     *
+     * @return the plans, sorted by identifier
+     */
+    public List<MeasurementPlan> getPlans() {
+        List<MeasurementPlan> plans = new ArrayList<>();
+        for (PlanHolder holder : planCache.values()) {
+            MeasurementPlan plan = holder.plan;
+            if (plan != null) {
+                plans.add(plan);
+            }
+        }
+        plans.sort(Comparator.comparing(MeasurementPlan::getId));
+        return plans;
+    }
+
+    /**
+     * Replaces the plans with the given identifier, see {@link MeasurementPlan#getId()}. The
+     * update takes effect with the next invocation of each method.
+     *
+     * @param id     the plan identifier
+     * @param update the function producing the new plan from the current one
+     * @return the number of plans replaced, more than one for overloaded methods
+     */
+    public synchronized int updatePlans(String id, UnaryOperator<MeasurementPlan> update) {
+        int updated = 0;
+        for (PlanHolder holder : planCache.values()) {
+            MeasurementPlan plan = holder.plan;
+            if (plan != null && plan.getId().equals(id)) {
+                holder.plan = update.apply(plan);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Routes the plans with the given identifier to a registered logger.
+     *
+     * @param id    the plan identifier
+     * @param route the route name, or an empty string for the default logger
+     * @return the number of plans replaced
+     * @throws IllegalArgumentException if no logger is registered under the route
+     */
+    public synchronized int routePlans(String id, String route) {
+        TimeLogger routed = route.isEmpty() ? logger : loggerRoutes.get(route);
+        if (routed == null) {
+            throw new IllegalArgumentException("Unknown logger route: " + route);
+        }
+        return updatePlans(id, plan -> plan.withLoggerRoute(route, routed));
+    }
+
+    /**
+     * Restores the plans with the given identifier to the values of their annotations.
+     *
+     * @param id the plan identifier
+     * @return the number of plans replaced
+     */
+    public synchronized int resetPlans(String id) {
+        int updated = 0;
+        for (PlanHolder holder : planCache.values()) {
+            MeasurementPlan plan = holder.plan;
+            if (plan != null && plan.getId().equals(id)) {
+                holder.plan = MeasurementPlan.of(holder.method, holder.annotation,
+                    resolveLogger(holder.annotation.loggerName()));
+                updated++;
+            }
+        }
+        return updated;
     }
 
     /**
@@ -44,39 +190,121 @@ public class MeasureTimeProcessor {
      * @throws Throwable if an exception occurs during method invocation
      */
     public Object process(Method method, Object[] args, Object target) throws Throwable {
-        MeasureTime annotation = getAnnotation(method);
-        if (annotation == null) {
+        MeasurementPlan plan = getPlan(method);
+        if (plan == null || !plan.isEnabled() || !isSampled(plan)) {
             return method.invoke(target, args);
         }
 
+        MeasurementListener[] current = listeners;
+        Object[] contexts = beginListeners(current, plan);
         long startTime = System.nanoTime();
+        Throwable failure = null;
         try {
             return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            failure = e.getCause();
+            throw e;
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
         } finally {
             long duration = System.nanoTime() - startTime;
-            logExecutionTime(method, annotation, duration);
+            notifyListeners(current, contexts, plan, duration, failure);
+            logExecutionTime(plan, duration);
+        }
+    }
+
+    private MeasurementPlan getPlan(Method method) {
+        // get() first: computeIfAbsent locks the bin even when the key is present on Java 8
+        PlanHolder holder = planCache.get(method);
+        if (holder == null) {
+            // Created under the processor's lock, so a logger registered concurrently is either
+            // seen here or applied by registerLogger once the holder is in the cache
+            synchronized (this) {
+                holder = planCache.computeIfAbsent(method, this::createHolder);
+            }
+        }
+        return holder.plan;
+    }
+
+    private PlanHolder createHolder(Method method) {
+        MeasureTime annotation = method.getAnnotation(MeasureTime.class);
+        return new PlanHolder(method, annotation, annotation == null ? null
+            : MeasurementPlan.of(method, annotation, resolveLogger(annotation.loggerName())));
+    }
+
+    private TimeLogger resolveLogger(String route) {
+        return route.isEmpty() ? logger : loggerRoutes.getOrDefault(route, logger);
+    }
+
+    private static boolean isSampled(MeasurementPlan plan) {
+        double samplingRate = plan.getSamplingRate();
+        return samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    /**
+     * Tells every listener that a measured method is about to be invoked. The contexts array is
+     * only allocated once a listener returns a context.
+     *
+     * @param current the listeners registered when the invocation started
+     * @param plan    the plan of the measured method
+     * @return the context of each listener by position, or null if no listener returned one
+     */
+    private static Object[] beginListeners(MeasurementListener[] current, MeasurementPlan plan) {
+        Object[] contexts = null;
+        for (int i = 0; i < current.length; i++) {
+            try {
+                Object context = current[i].beforeMeasurement(plan);
+                if (context != null) {
+                    if (contexts == null) {
+                        contexts = new Object[current.length];
+                    }
+                    contexts[i] = context;
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Error notifying measurement listener: " + e.getMessage());
+            }
         }
+        return contexts;
     }
 
-    private MeasureTime getAnnotation(Method method) {
-        return annotationCache.computeIfAbsent(method, m -> m.getAnnotation(MeasureTime.class));
+    /**
+     * Passes a measured execution time to every listener. A failing listener does not affect the
+     * others or the measured method.
+     *
+     * @param current  the listeners registered when the invocation started
+     * @param contexts the contexts returned by {@link #beginListeners}, or null
+     * @param plan     the plan of the measured method
+     * @param duration the measured execution time in nanoseconds
+     * @param failure  the exception thrown by the method, or null
+     */
+    private static void notifyListeners(MeasurementListener[] current, Object[] contexts,
+        MeasurementPlan plan, long duration, Throwable failure) {
+        for (int i = 0; i < current.length; i++) {
+            try {
+                current[i].onMeasurement(plan, duration, failure,
+                    contexts == null ? null : contexts[i]);
+            } catch (RuntimeException e) {
+                System.err.println("Error notifying measurement listener: " + e.getMessage());
+            }
+        }
     }
 
     /**
-     * Logs the execution time of a method if it exceeds the specified threshold.
+     * Logs the execution time of a method if it exceeds the threshold of its plan. The logger
+     * receives the duration in the plan's time unit, truncated, as {@link TimeLogger} specifies.
      *
-     * @param method     the method whose execution time is being logged
-     * @param annotation the MeasureTime annotation associated with the method
-     * @param duration   the measured execution time in nanoseconds
+     * @param plan     the plan of the method whose execution time is being logged
+     * @param duration the measured execution time in nanoseconds
      */
-    private void logExecutionTime(Method method, MeasureTime annotation, long duration) {
-        String methodName = annotation.value().isEmpty() ? method.getName() : annotation.value();
-        TimeUnit timeUnit = annotation.timeUnit();
-        double threshold = annotation.threshold();
+    private void logExecutionTime(MeasurementPlan plan, long duration) {
+        TimeUnit timeUnit = plan.getTimeUnit();
+        double threshold = plan.getThreshold();
 
         if (convertDuration(duration, timeUnit) >= threshold) {
             try {
-                logger.logExecutionTime(methodName, duration, timeUnit, threshold);
+                plan.getLogger().logExecutionTime(plan.getMethodName(),
+                    timeUnit.convert(duration, TimeUnit.NANOSECONDS), timeUnit, threshold);
             } catch (Exception e) {
                 // Log the exception or handle it as per your error handling strategy
                 System.err.println("Error logging execution time: " + e.getMessage());
@@ -94,4 +322,21 @@ public class MeasureTimeProcessor {
     private double convertDuration(long duration, TimeUnit unit) {
         return (double) duration / TimeUnit.NANOSECONDS.convert(1, unit);
     }
-}
\ No newline at end of file
+
+    /**
+     * The current plan of one method. Unannotated methods are cached with a null plan so they are
+     * only inspected once.
+     */
+    private static final class PlanHolder {
+
+        final Method method;
+        final MeasureTime annotation;
+        volatile MeasurementPlan plan;
+
+        PlanHolder(Method method, MeasureTime annotation, MeasurementPlan plan) {
+            this.method = method;
+            this.annotation = annotation;
+            this.plan = plan;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.ring_ding_dong.jobserv.core;
 import com.ring_ding_dong.jobserv.annotation.MeasureTime;
 import com.ring_ding_dong.jobserv.api.TimeLogger;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 
@@ -19,7 +20,7 @@ import java.lang.reflect.Proxy;
  */
 public class MeasureTimeProxyFactory {
 
-    private final TimeLogger logger;
+    private final MeasureTimeProcessor processor;
 
     /**
      * Constructs a new com.ring_ding_dong.jobserv.core.MeasureTimeProxyFactory with the specified logger.
@@ -27,7 +28,17 @@ public class MeasureTimeProxyFactory {
      * @param logger the TimeLogger to use for logging execution times
      */
     public MeasureTimeProxyFactory(TimeLogger logger) {
-        this.logger = logger;
+        this.processor = new MeasureTimeProcessor(logger);
+    }
+
+    /**
+     * Returns the processor shared by all proxies created by this factory, for registering
+     * listeners and logger routes or for changing measurement plans at runtime.
+     *
+     * @return the shared processor
+     */
+    public MeasureTimeProcessor getProcessor() {
+        return processor;
     }
 
     /**
@@ -49,7 +60,7 @@ public class MeasureTimeProxyFactory {
         return (T) Proxy.newProxyInstance(
             targetClass.getClassLoader(),
             targetClass.getInterfaces(),
-            new MeasureTimeInvocationHandler(target, logger)
+            new MeasureTimeInvocationHandler(target, processor)
         );
     }
 
@@ -60,43 +71,40 @@ public class MeasureTimeProxyFactory {
     private static class MeasureTimeInvocationHandler implements InvocationHandler {
 
         private final Object target;
-        private final TimeLogger logger;
         private final MeasureTimeProcessor processor;
 
         /**
          * Constructs a new MeasureTimeInvocationHandler.
          *
-         * @param target the target object being proxied
-         * @param logger the TimeLogger to use for logging execution times
+         * @param target    the target object being proxied
+         * @param processor the processor measuring the invocations
          */
-        MeasureTimeInvocationHandler(Object target, TimeLogger logger) {
+        MeasureTimeInvocationHandler(Object target, MeasureTimeProcessor processor) {
             this.target = target;
-            this.logger = logger;
-            this.processor = new MeasureTimeProcessor(logger);
+            this.processor = processor;
         }
 
         /**
          * Processes method invocations on the proxy instance.
          *
          * <p>If the method is annotated with {@link MeasureTime}, its execution time
-         * will be measured and logged. If not, the method will be invoked normally.</p>
+         * will be measured and logged according to its current {@link MeasurementPlan}. If not,
+         * the method will be invoked normally.</p>
          *
          * @param proxy  the proxy instance
          * @param method the method being invoked
          * @param args   the arguments to the method
          * @return the result of the method invocation
-         * @throws Throwable if the method invocation throws an exception
+         * @throws Throwable the exception thrown by the invoked method
          */
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            MeasureTime annotation = method.getAnnotation(MeasureTime.class);
-            if (annotation == null) {
-                annotation = target.getClass().getAnnotation(MeasureTime.class);
-            }
-            if (annotation != null) {
+            try {
                 return processor.process(method, args, target);
+            } catch (InvocationTargetException e) {
+                // Rethrow the target's own exception instead of an UndeclaredThrowableException
+                throw e.getCause();
             }
-            return method.invoke(target, args);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.ring_ding_dong.jobserv.core;
+
+/**
+ * Receives every execution time measured by a {@link MeasureTimeProcessor}, regardless of the
+ * logging threshold. Listeners are called on the thread that invoked the measured method, so
+ * implementations must be thread-safe and should return quickly.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface MeasurementListener {
+
+    /**
+     * Called after a measured method returns or throws.
+     *
+     * @param methodName    the name of the measured operation, as used for logging
+     * @param durationNanos the execution time in nanoseconds
+     * @param failure       the exception thrown by the method, or null if it returned normally
+     */
+    void onMeasurement(String methodName, long durationNanos, Throwable failure);
+
+    /**
+     * Called after a measured method returns or throws, with the plan it was measured under.
+     * Listeners that need more than the method name override this method; by default it
+     * delegates to {@link #onMeasurement(String, long, Throwable)}.
+     *
+     * @param plan          the plan of the measured method
+     * @param durationNanos the execution time in nanoseconds
+     * @param failure       the exception thrown by the method, or null if it returned normally
+     */
+    default void onMeasurement(MeasurementPlan plan, long durationNanos, Throwable failure) {
+        onMeasurement(plan.getMethodName(), durationNanos, failure);
+    }
+
+    /**
+     * Called right before a measured method is invoked. Listeners that need to observe the call
+     * as it happens, for example to open an event spanning it, return a context object that is
+     * passed back to {@link #onMeasurement(MeasurementPlan, long, Throwable, Object)} once the
+     * method returns or throws. By default no context is created.
+     *
+     * @param plan the plan of the method about to be invoked
+     * @return the context of this invocation, or null
+     */
+    default Object beforeMeasurement(MeasurementPlan plan) {
+        return null;
+    }
+
+    /**
+     * Called after a measured method returns or throws, with the context returned by
+     * {@link #beforeMeasurement(MeasurementPlan)}. By default it delegates to
+     * {@link #onMeasurement(MeasurementPlan, long, Throwable)}.
+     *
+     * @param plan          the plan of the measured method
+     * @param durationNanos the execution time in nanoseconds
+     * @param failure       the exception thrown by the method, or null if it returned normally
+     * @param context       the context of this invocation, or null
+     */
+    default void onMeasurement(MeasurementPlan plan, long durationNanos, Throwable failure,
+        Object context) {
+        onMeasurement(plan, durationNanos, failure);
+    }
+}
@@ -0,0 +1,217 @@
+package com.ring_ding_dong.jobserv.core;
+
+import com.ring_ding_dong.jobserv.annotation.MeasureTime;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The immutable settings a {@link MeasureTimeProcessor} applies to one measured method. A plan is
+ * derived from the method's {@link MeasureTime} annotation and can be replaced at runtime, for
+ * example through {@link MeasurementPlanControl}; a replacement takes effect with the next
+ * invocation of the method.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class MeasurementPlan {
+
+    private final String id;
+    private final String methodName;
+    private final List<String> tags;
+    private final TimeUnit timeUnit;
+    private final double threshold;
+    private final boolean enabled;
+    private final double samplingRate;
+    private final String loggerRoute;
+    private final TimeLogger logger;
+    // The JFR event type of the plan, cached by JfrMeasurementListener and kept by copies
+    volatile Object eventType;
+
+    private MeasurementPlan(String id, String methodName, List<String> tags, TimeUnit timeUnit,
+        double threshold, boolean enabled, double samplingRate, String loggerRoute,
+        TimeLogger logger) {
+        this.id = id;
+        this.methodName = methodName;
+        this.tags = tags;
+        this.timeUnit = timeUnit;
+        this.threshold = threshold;
+        this.enabled = enabled;
+        this.samplingRate = samplingRate;
+        this.loggerRoute = loggerRoute;
+        this.logger = logger;
+    }
+
+    /**
+     * Creates the plan described by an annotation.
+     *
+     * @param method     the measured method
+     * @param annotation the annotation of the method
+     * @param logger     the logger the annotation's logger route resolves to
+     * @return the plan
+     */
+    static MeasurementPlan of(Method method, MeasureTime annotation, TimeLogger logger) {
+        return new MeasurementPlan(idOf(method),
+            annotation.value().isEmpty() ? method.getName() : annotation.value(),
+            Collections.unmodifiableList(Arrays.asList(annotation.tags().clone())),
+            annotation.timeUnit(), annotation.threshold(), true, 1.0, annotation.loggerName(),
+            logger);
+    }
+
+    /**
+     * Returns the identifier under which the plan of a method is managed, the binary name of the
+     * declaring class followed by {@code #} and the method name. Overloads share an identifier.
+     *
+     * @param method the method
+     * @return the plan identifier
+     */
+    static String idOf(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName();
+    }
+
+    /**
+     * Returns the identifier of the plan.
+     *
+     * @return the plan identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name under which measurements are logged.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Returns the tags of the method's annotation.
+     *
+     * @return the tags, unmodifiable
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the unit the threshold is expressed in.
+     *
+     * @return the time unit
+     */
+    public TimeUnit getTimeUnit() {
+        return timeUnit;
+    }
+
+    /**
+     * Returns the execution time from which measurements are logged.
+     *
+     * @return the threshold, in {@link #getTimeUnit()}
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Returns whether the method is measured at all.
+     *
+     * @return true if the method is measured
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the fraction of invocations that are measured.
+     *
+     * @return the sampling rate, between 0 and 1
+     */
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * Returns the name of the logger measurements are routed to.
+     *
+     * @return the logger route, or an empty string for the processor's default logger
+     */
+    public String getLoggerRoute() {
+        return loggerRoute;
+    }
+
+    TimeLogger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Returns a copy of this plan with the given enabled state.
+     *
+     * @param enabled whether the method is measured
+     * @return the updated plan
+     */
+    public MeasurementPlan withEnabled(boolean enabled) {
+        return carryOver(new MeasurementPlan(id, methodName, tags, timeUnit, threshold, enabled,
+            samplingRate, loggerRoute, logger));
+    }
+
+    /**
+     * Returns a copy of this plan with the given threshold.
+     *
+     * @param threshold the threshold, in {@link #getTimeUnit()}
+     * @return the updated plan
+     * @throws IllegalArgumentException if the threshold is negative or not a number
+     */
+    public MeasurementPlan withThreshold(double threshold) {
+        if (!(threshold >= 0)) {
+            throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+        }
+        return carryOver(new MeasurementPlan(id, methodName, tags, timeUnit, threshold, enabled,
+            samplingRate, loggerRoute, logger));
+    }
+
+    /**
+     * Returns a copy of this plan with the given sampling rate.
+     *
+     * @param samplingRate the fraction of invocations to measure, between 0 and 1
+     * @return the updated plan
+     * @throws IllegalArgumentException if the sampling rate is outside of [0, 1]
+     */
+    public MeasurementPlan withSamplingRate(double samplingRate) {
+        if (!(samplingRate >= 0 && samplingRate <= 1)) {
+            throw new IllegalArgumentException(
+                "Sampling rate must be between 0 and 1: " + samplingRate);
+        }
+        return carryOver(new MeasurementPlan(id, methodName, tags, timeUnit, threshold, enabled,
+            samplingRate, loggerRoute, logger));
+    }
+
+    /**
+     * Returns a copy of this plan routed to another logger.
+     *
+     * @param loggerRoute the logger route, or an empty string for the default logger
+     * @param logger      the logger the route resolves to
+     * @return the updated plan
+     */
+    MeasurementPlan withLoggerRoute(String loggerRoute, TimeLogger logger) {
+        return carryOver(new MeasurementPlan(id, methodName, tags, timeUnit, threshold, enabled,
+            samplingRate, loggerRoute, logger));
+    }
+
+    private MeasurementPlan carryOver(MeasurementPlan copy) {
+        copy.eventType = eventType;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [name=%s, enabled=%s, threshold=%s %s, samplingRate=%s, "
+                + "loggerRoute=%s]", id, methodName, enabled, threshold, timeUnit, samplingRate,
+            loggerRoute.isEmpty() ? "<default>" : loggerRoute);
+    }
+}
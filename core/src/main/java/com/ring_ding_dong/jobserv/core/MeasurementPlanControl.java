@@ -0,0 +1,125 @@
+package com.ring_ding_dong.jobserv.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Exposes the plans of a {@link MeasureTimeProcessor} as a {@link MeasurementPlanControlMXBean}.
+ *
+ * <p>A plan is created on the first invocation of its method, so a method that has not been
+ * called yet is neither listed nor controllable; operations on its identifier fail as if the
+ * plan did not exist.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * MeasureTimeProxyFactory factory = new MeasureTimeProxyFactory(logger);
+ * new MeasurementPlanControl(factory.getProcessor()).register("orders");
+ * // jobserv:type=MeasurementPlanControl,name=orders is now visible in JConsole
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MeasurementPlanControl implements MeasurementPlanControlMXBean {
+
+    /**
+     * The JMX domain of the registered beans.
+     */
+    public static final String DOMAIN = "jobserv";
+
+    private final MeasureTimeProcessor processor;
+
+    /**
+     * Constructs a new MeasurementPlanControl.
+     *
+     * @param processor the processor whose plans are managed
+     */
+    public MeasurementPlanControl(MeasureTimeProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Registers this bean with the platform MBean server under
+     * {@code jobserv:type=MeasurementPlanControl,name=<name>}.
+     *
+     * @param name the value of the {@code name} key of the object name, which must not contain
+     *             characters that would need quoting, such as commas, colons or equals signs
+     * @return the object name the bean was registered under
+     * @throws JMException if the name is invalid or already registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=MeasurementPlanControl,name="
+            + name);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public String[] getPlanIds() {
+        return processor.getPlans().stream()
+            .map(MeasurementPlan::getId)
+            .distinct()
+            .toArray(String[]::new);
+    }
+
+    @Override
+    public String[] getLoggerRoutes() {
+        return processor.getLoggerRoutes().toArray(new String[0]);
+    }
+
+    @Override
+    public String describePlan(String id) {
+        List<MeasurementPlan> plans = processor.getPlans().stream()
+            .filter(plan -> plan.getId().equals(id))
+            .collect(Collectors.toList());
+        if (plans.isEmpty()) {
+            throw unknownPlan(id);
+        }
+        return plans.stream().map(MeasurementPlan::toString).collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void setEnabled(String id, boolean enabled) {
+        requireUpdated(id, () -> processor.updatePlans(id, plan -> plan.withEnabled(enabled)));
+    }
+
+    @Override
+    public void setThreshold(String id, double threshold) {
+        requireUpdated(id, () -> processor.updatePlans(id, plan -> plan.withThreshold(threshold)));
+    }
+
+    @Override
+    public void setSamplingRate(String id, double samplingRate) {
+        requireUpdated(id,
+            () -> processor.updatePlans(id, plan -> plan.withSamplingRate(samplingRate)));
+    }
+
+    @Override
+    public void setLoggerRoute(String id, String loggerRoute) {
+        requireUpdated(id, () -> processor.routePlans(id, loggerRoute));
+    }
+
+    @Override
+    public void resetPlan(String id) {
+        requireUpdated(id, () -> processor.resetPlans(id));
+    }
+
+    private static void requireUpdated(String id, IntSupplier update) {
+        if (update.getAsInt() == 0) {
+            throw unknownPlan(id);
+        }
+    }
+
+    private static IllegalArgumentException unknownPlan(String id) {
+        return new IllegalArgumentException("Unknown measurement plan: " + id);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ring_ding_dong.jobserv.core;
+
+/**
+ * Management interface for inspecting and changing the {@link MeasurementPlan}s of a
+ * {@link MeasureTimeProcessor} at runtime, for example from JConsole or VisualVM. Plans are
+ * addressed by their identifier, see {@link MeasurementPlan#getId()}, and only exist once the
+ * method has been invoked.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface MeasurementPlanControlMXBean {
+
+    /**
+     * Returns the identifiers of all known plans.
+     *
+     * @return the plan identifiers, sorted
+     */
+    String[] getPlanIds();
+
+    /**
+     * Returns the names of the registered logger routes.
+     *
+     * @return the route names, sorted
+     */
+    String[] getLoggerRoutes();
+
+    /**
+     * Describes the current plans with the given identifier.
+     *
+     * @param id the plan identifier
+     * @return one line per plan
+     */
+    String describePlan(String id);
+
+    /**
+     * Turns measurement of a method on or off.
+     *
+     * @param id      the plan identifier
+     * @param enabled whether the method is measured
+     */
+    void setEnabled(String id, boolean enabled);
+
+    /**
+     * Changes the execution time from which measurements of a method are logged.
+     *
+     * @param id        the plan identifier
+     * @param threshold the threshold, in the time unit of the plan
+     */
+    void setThreshold(String id, double threshold);
+
+    /**
+     * Changes the fraction of invocations of a method that are measured.
+     *
+     * @param id           the plan identifier
+     * @param samplingRate the sampling rate, between 0 and 1
+     */
+    void setSamplingRate(String id, double samplingRate);
+
+    /**
+     * Routes the measurements of a method to a registered logger.
+     *
+     * @param id          the plan identifier
+     * @param loggerRoute the route name, or an empty string for the default logger
+     */
+    void setLoggerRoute(String id, String loggerRoute);
+
+    /**
+     * Restores the plan of a method to the values of its annotation.
+     *
+     * @param id the plan identifier
+     */
+    void resetPlan(String id);
+}
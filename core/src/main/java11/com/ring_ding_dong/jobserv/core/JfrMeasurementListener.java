@@ -0,0 +1,177 @@
+package com.ring_ding_dong.jobserv.core;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.AnnotationElement;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventFactory;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.ValueDescriptor;
+
+/**
+ * A {@link MeasurementListener} that emits every measurement as a Java Flight Recorder event, so
+ * that execution times line up with GC, lock and I/O events in the same recording.
+ *
+ * <p>This is the Java 11+ variant of the multi-release JAR. Every {@link MeasurementPlan} gets its
+ * own event type, named {@code jobserv.} followed by the plan identifier, for example
+ * {@code jobserv.com.example.OrderService.findOrder}, so each method can be enabled or disabled
+ * separately in a JFR configuration. Event types are registered once per JVM, on the first
+ * measurement of a plan, and cached on the plan; afterwards a measurement of a method whose event
+ * is not enabled in any running recording costs a field read and a branch.</p>
+ *
+ * <p>The event begins right before the measured method is invoked and ends when it returns or
+ * throws, so its start time and duration are those of the call and it lines up with the GC, lock
+ * and I/O events recorded meanwhile; JFR's {@code threshold} setting applies to it as usual.
+ * Events carry the method name, the plan's tags and the outcome ({@code success} or the class
+ * name of the thrown exception). Stack traces are not recorded.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * factory.getProcessor().addListener(new JfrMeasurementListener());
+ * // java -XX:StartFlightRecording ... records one "jobserv.<class>.<method>" event type per plan
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class JfrMeasurementListener implements MeasurementListener {
+
+    private static final String SUCCESS = "success";
+    private static final int METHOD_FIELD = 0;
+    private static final int TAGS_FIELD = 1;
+    private static final int OUTCOME_FIELD = 2;
+    private static final List<ValueDescriptor> FIELDS = List.of(
+        new ValueDescriptor(String.class, "method",
+            List.of(new AnnotationElement(Label.class, "Method"))),
+        new ValueDescriptor(String.class, "tags",
+            List.of(new AnnotationElement(Label.class, "Tags"))),
+        new ValueDescriptor(String.class, "outcome",
+            List.of(new AnnotationElement(Label.class, "Outcome"))));
+    // Event types are JVM-wide: registering the same name twice would create two types
+    private static final ConcurrentHashMap<String, PlanEvent> EVENTS_BY_PLAN =
+        new ConcurrentHashMap<>();
+
+    private final boolean aboveThresholdOnly;
+
+    /**
+     * Constructs a new JfrMeasurementListener that emits every measured invocation.
+     */
+    public JfrMeasurementListener() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new JfrMeasurementListener.
+     *
+     * @param aboveThresholdOnly whether to emit only invocations that reach the threshold of their
+     *                           plan
+     */
+    public JfrMeasurementListener(boolean aboveThresholdOnly) {
+        this.aboveThresholdOnly = aboveThresholdOnly;
+    }
+
+    /**
+     * Returns whether this listener emits JFR events on the running Java version.
+     *
+     * @return true from Java 11
+     */
+    public static boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public void onMeasurement(String methodName, long durationNanos, Throwable failure) {
+        // Events are registered per plan; the processor always passes the plan
+    }
+
+    @Override
+    public Object beforeMeasurement(MeasurementPlan plan) {
+        PlanEvent planEvent = (PlanEvent) plan.eventType;
+        if (planEvent == null) {
+            planEvent = EVENTS_BY_PLAN.computeIfAbsent(plan.getId(), id -> new PlanEvent(plan));
+            plan.eventType = planEvent;
+        }
+        if (!planEvent.type.isEnabled()) {
+            return null;
+        }
+        Event event = planEvent.factory.newEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void onMeasurement(MeasurementPlan plan, long durationNanos, Throwable failure,
+        Object context) {
+        if (context == null) {
+            return;
+        }
+        Event event = (Event) context;
+        event.end();
+        if (aboveThresholdOnly && durationNanos
+            < plan.getThreshold() * plan.getTimeUnit().toNanos(1)) {
+            return;
+        }
+        event.set(METHOD_FIELD, plan.getMethodName());
+        event.set(TAGS_FIELD, ((PlanEvent) plan.eventType).tags);
+        event.set(OUTCOME_FIELD, failure == null ? SUCCESS : failure.getClass().getName());
+        event.commit();
+    }
+
+    /**
+     * Returns the event type name of a plan: {@code jobserv.} followed by the plan identifier,
+     * with {@code #} replaced by a dot and characters not allowed in Java identifiers replaced by
+     * underscores.
+     *
+     * @param planId the plan identifier
+     * @return the event type name
+     */
+    static String eventName(String planId) {
+        StringBuilder name = new StringBuilder("jobserv.");
+        boolean segmentStart = true;
+        for (int i = 0; i < planId.length(); i++) {
+            char c = planId.charAt(i);
+            if (c == '.' || c == '#') {
+                name.append('.');
+                segmentStart = true;
+                continue;
+            }
+            if (segmentStart && !Character.isJavaIdentifierStart(c)) {
+                name.append('_');
+            }
+            name.append(Character.isJavaIdentifierPart(c) ? c : '_');
+            segmentStart = false;
+        }
+        return name.toString();
+    }
+
+    /**
+     * The event type registered for one plan.
+     */
+    private static final class PlanEvent {
+
+        final EventFactory factory;
+        final EventType type;
+        final String tags;
+
+        PlanEvent(MeasurementPlan plan) {
+            List<AnnotationElement> annotations = List.of(
+                new AnnotationElement(Name.class, eventName(plan.getId())),
+                new AnnotationElement(Label.class, "MeasureTime " + plan.getMethodName()),
+                new AnnotationElement(Description.class,
+                    "Execution of a method annotated with @MeasureTime"),
+                new AnnotationElement(Category.class, new String[]{"Jobserv", "MeasureTime"}),
+                new AnnotationElement(StackTrace.class, false));
+            this.factory = EventFactory.create(annotations, FIELDS);
+            this.type = factory.getEventType();
+            this.tags = String.join(",", plan.getTags());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.ring_ding_dong.jobserv.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.annotation.MeasureTime;
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MeasureTimeProcessorTest {
+
+    private final List<String> logged = new ArrayList<>();
+    private final List<Object[]> loggedTimes = new ArrayList<>();
+    private final List<Object[]> measured = new ArrayList<>();
+    private MeasureTimeProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new MeasureTimeProcessor(new RecordingLogger());
+        processor.addListener((name, duration, failure) ->
+            measured.add(new Object[]{name, duration, failure}));
+    }
+
+    @Test
+    void testListenersReceiveEveryMeasurement() throws Throwable {
+        Service service = new Service();
+        processor.process(Service.class.getMethod("slowThreshold"), new Object[0], service);
+
+        assertEquals(1, measured.size());
+        assertEquals("slow", measured.get(0)[0]);
+        assertTrue((Long) measured.get(0)[1] >= 0);
+        assertNull(measured.get(0)[2]);
+        assertTrue(logged.isEmpty());
+    }
+
+    @Test
+    void testListenersReceiveFailure() throws Exception {
+        Method method = Service.class.getMethod("failing");
+        assertThrows(InvocationTargetException.class,
+            () -> processor.process(method, new Object[0], new Service()));
+
+        assertEquals(1, measured.size());
+        assertSame(IllegalStateException.class, measured.get(0)[2].getClass());
+        assertEquals(1, logged.size());
+    }
+
+    @Test
+    void testLoggerReceivesDurationInPlanTimeUnit() throws Throwable {
+        processor.process(Service.class.getMethod("micros"), new Object[0], new Service());
+
+        assertEquals(1, loggedTimes.size());
+        long nanos = (Long) measured.get(0)[1];
+        assertEquals(TimeUnit.NANOSECONDS.toMicros(nanos), loggedTimes.get(0)[0]);
+        assertSame(TimeUnit.MICROSECONDS, loggedTimes.get(0)[1]);
+    }
+
+    @Test
+    void testUnannotatedMethodsAreNotMeasured() throws Throwable {
+        processor.process(Service.class.getMethod("plain"), new Object[0], new Service());
+        assertTrue(measured.isEmpty());
+    }
+
+    @Test
+    void testRemovedListenerIsNotCalled() throws Throwable {
+        MeasurementListener extra = (name, duration, failure) -> measured.add(new Object[0]);
+        processor.addListener(extra);
+        processor.removeListener(extra);
+
+        processor.process(Service.class.getMethod("slowThreshold"), new Object[0], new Service());
+
+        assertEquals(1, measured.size());
+    }
+
+    @Test
+    void testContextIsPassedFromBeforeToAfterInvocation() throws Throwable {
+        List<Object> contexts = new ArrayList<>();
+        processor.addListener(new MeasurementListener() {
+            @Override
+            public void onMeasurement(String methodName, long durationNanos, Throwable failure) {
+            }
+
+            @Override
+            public Object beforeMeasurement(MeasurementPlan plan) {
+                return plan.getMethodName() + " started";
+            }
+
+            @Override
+            public void onMeasurement(MeasurementPlan plan, long durationNanos, Throwable failure,
+                Object context) {
+                contexts.add(context);
+            }
+        });
+
+        processor.process(Service.class.getMethod("slowThreshold"), new Object[0], new Service());
+
+        assertEquals(1, measured.size());
+        assertEquals(1, contexts.size());
+        assertEquals("slow started", contexts.get(0));
+    }
+
+    public static class Service {
+
+        @MeasureTime(value = "slow", threshold = 60_000)
+        public void slowThreshold() {
+        }
+
+        @MeasureTime(timeUnit = TimeUnit.MICROSECONDS)
+        public void micros() {
+        }
+
+        @MeasureTime
+        public void failing() {
+            throw new IllegalStateException("boom");
+        }
+
+        public void plain() {
+        }
+    }
+
+    private class RecordingLogger implements TimeLogger {
+
+        @Override
+        public void log(LogLevel level, String message, Object... args) {
+            logged.add(message);
+        }
+
+        @Override
+        public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+            double threshold) {
+            logged.add(methodName);
+            loggedTimes.add(new Object[]{duration, timeUnit});
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.ring_ding_dong.jobserv.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.annotation.MeasureTime;
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MeasurementPlanControlTest {
+
+    private static final String PLAN_ID = Orders.class.getName() + "#find";
+
+    private final RecordingLogger defaultLogger = new RecordingLogger();
+    private final List<String> measured = new ArrayList<>();
+    private MeasureTimeProxyFactory factory;
+    private MeasurementPlanControl control;
+    private Orders orders;
+
+    @BeforeEach
+    void setUp() {
+        factory = new MeasureTimeProxyFactory(defaultLogger);
+        factory.getProcessor().addListener((name, duration, failure) -> measured.add(name));
+        control = new MeasurementPlanControl(factory.getProcessor());
+        orders = factory.createProxy(new OrdersImpl());
+        orders.find();
+    }
+
+    @Test
+    void testListsPlansAfterFirstInvocation() {
+        assertArrayEquals(new String[]{PLAN_ID}, control.getPlanIds());
+        assertTrue(control.describePlan(PLAN_ID).contains("enabled=true"));
+        assertEquals(1, defaultLogger.logged.size());
+    }
+
+    @Test
+    void testDisabledPlanIsNotMeasured() {
+        control.setEnabled(PLAN_ID, false);
+        orders.find();
+        assertEquals(1, measured.size());
+
+        control.setEnabled(PLAN_ID, true);
+        orders.find();
+        assertEquals(2, measured.size());
+    }
+
+    @Test
+    void testThresholdAndResetApplyToNextInvocation() {
+        control.setThreshold(PLAN_ID, TimeUnit.HOURS.toNanos(1));
+        orders.find();
+        assertEquals(1, defaultLogger.logged.size());
+        assertEquals(2, measured.size());
+
+        control.resetPlan(PLAN_ID);
+        orders.find();
+        assertEquals(2, defaultLogger.logged.size());
+    }
+
+    @Test
+    void testSamplingRate() {
+        control.setSamplingRate(PLAN_ID, 0.0);
+        for (int i = 0; i < 100; i++) {
+            orders.find();
+        }
+        assertEquals(1, measured.size());
+        assertThrows(IllegalArgumentException.class, () -> control.setSamplingRate(PLAN_ID, 1.5));
+    }
+
+    @Test
+    void testLoggerRoute() {
+        RecordingLogger audit = new RecordingLogger();
+        factory.getProcessor().registerLogger("audit", audit);
+        control.setLoggerRoute(PLAN_ID, "audit");
+        orders.find();
+
+        assertArrayEquals(new String[]{"audit"}, control.getLoggerRoutes());
+        assertEquals(1, audit.logged.size());
+        assertEquals(1, defaultLogger.logged.size());
+        assertThrows(IllegalArgumentException.class,
+            () -> control.setLoggerRoute(PLAN_ID, "unknown"));
+    }
+
+    @Test
+    void testUnknownPlan() {
+        assertThrows(IllegalArgumentException.class, () -> control.setEnabled("missing", false));
+        assertThrows(IllegalArgumentException.class, () -> control.describePlan("missing"));
+    }
+
+    @Test
+    void testOperationsThroughPlatformMBeanServer() throws Exception {
+        String beanName = "test-" + System.nanoTime();
+        ObjectName name = control.register(beanName);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(new ObjectName("jobserv:type=MeasurementPlanControl,name=" + beanName),
+                name);
+            assertArrayEquals(new String[]{PLAN_ID}, (String[]) server.getAttribute(name, "PlanIds"));
+            server.invoke(name, "setEnabled", new Object[]{PLAN_ID, false},
+                new String[]{String.class.getName(), boolean.class.getName()});
+            orders.find();
+            assertEquals(1, measured.size());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    public interface Orders {
+
+        @MeasureTime(timeUnit = TimeUnit.NANOSECONDS)
+        void find();
+    }
+
+    public static class OrdersImpl implements Orders {
+
+        @Override
+        public void find() {
+        }
+    }
+
+    private static class RecordingLogger implements TimeLogger {
+
+        final List<String> logged = new ArrayList<>();
+
+        @Override
+        public void log(LogLevel level, String message, Object... args) {
+        }
+
+        @Override
+        public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+            double threshold) {
+            logged.add(methodName);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ring_ding_dong.jobserv.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.annotation.MeasureTime;
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JfrMeasurementListenerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testEmitsOneEventTypePerPlan() throws IOException {
+        MeasureTimeProxyFactory factory = new MeasureTimeProxyFactory(new SilentLogger());
+        factory.getProcessor().addListener(new JfrMeasurementListener());
+        Orders orders = factory.createProxy(new OrdersImpl());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("jobserv.*");
+            recording.start();
+            orders.find();
+            assertThrows(IllegalStateException.class, orders::save);
+            recording.stop();
+            events = read(recording);
+        }
+
+        assertEquals(2, events.size());
+        RecordedEvent find = events.stream()
+            .filter(event -> event.getString("method").equals("findOrder"))
+            .findFirst().orElseThrow();
+        assertEquals("jobserv." + Orders.class.getName() + ".find",
+            find.getEventType().getName());
+        assertEquals("read,orders", find.getString("tags"));
+        assertEquals("success", find.getString("outcome"));
+        assertTrue(find.getDuration().toMillis() >= 20, find.getDuration().toString());
+        assertEquals(find.getStartTime().plus(find.getDuration()), find.getEndTime());
+
+        RecordedEvent save = events.stream()
+            .filter(event -> event.getString("method").equals("save"))
+            .findFirst().orElseThrow();
+        assertEquals(IllegalStateException.class.getName(), save.getString("outcome"));
+    }
+
+    @Test
+    void testAboveThresholdOnly() throws IOException {
+        MeasureTimeProxyFactory factory = new MeasureTimeProxyFactory(new SilentLogger());
+        factory.getProcessor().addListener(new JfrMeasurementListener(true));
+        Orders orders = factory.createProxy(new OrdersImpl());
+
+        try (Recording recording = new Recording()) {
+            recording.enable("jobserv.*");
+            recording.start();
+            orders.find();
+            recording.stop();
+            assertTrue(read(recording).isEmpty());
+        }
+    }
+
+    @Test
+    void testEventTypesAreRegisteredOncePerPlan() {
+        for (int i = 0; i < 2; i++) {
+            MeasureTimeProxyFactory factory = new MeasureTimeProxyFactory(new SilentLogger());
+            factory.getProcessor().addListener(new JfrMeasurementListener());
+            Orders orders = factory.createProxy(new OrdersImpl());
+            orders.find();
+        }
+
+        String name = "jobserv." + Orders.class.getName() + ".find";
+        assertEquals(1, FlightRecorder.getFlightRecorder().getEventTypes().stream()
+            .filter(type -> type.getName().equals(name))
+            .count());
+    }
+
+    @Test
+    void testEventNamesAreValidIdentifiers() {
+        assertTrue(JfrMeasurementListener.isAvailable());
+        assertEquals("jobserv.com.example.Outer$Inner.find",
+            JfrMeasurementListener.eventName("com.example.Outer$Inner#find"));
+        assertEquals("jobserv._1st.order_service.run",
+            JfrMeasurementListener.eventName("1st.order-service#run"));
+    }
+
+    private List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith("jobserv."))
+            .collect(Collectors.toList());
+    }
+
+    public interface Orders {
+
+        @MeasureTime(value = "findOrder", threshold = 60_000, timeUnit = TimeUnit.SECONDS,
+            tags = {"read", "orders"})
+        void find();
+
+        @MeasureTime
+        void save();
+    }
+
+    public static class OrdersImpl implements Orders {
+
+        @Override
+        public void find() {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void save() {
+            throw new IllegalStateException("read-only");
+        }
+    }
+
+    private static class SilentLogger implements TimeLogger {
+
+        @Override
+        public void log(LogLevel level, String message, Object... args) {
+        }
+
+        @Override
+        public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+            double threshold) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.ring_ding_dong.jobserv.logging;
+
+import com.ring_ding_dong.jobserv.api.LoggingException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The batching writer behind {@link ConsoleTimeLogger}: two direct batch buffers, swapped by a
+ * single writer thread that writes the filled one to a channel while threads copy new lines into
+ * the other. A line is always copied as a whole, so lines of concurrent threads never interleave.
+ *
+ * <p>All loggers writing to the standard output share the sink returned by {@link #stdout()}, so
+ * there is one writer thread, one shutdown hook and one channel on {@link FileDescriptor#out} per
+ * process, and lines of different loggers cannot tear each other either. That sink is never
+ * closed; its lines are written when the JVM shuts down.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ConsoleSink {
+
+    private final WritableByteChannel channel;
+    private final boolean closeChannel;
+    private final ReentrantLock lock;
+    private final Condition batchReady;
+    private final Condition batchTaken;
+    private final Condition batchWritten;
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private ByteBuffer filling;
+    private ByteBuffer draining;
+    private long enqueuedBytes;
+    private long writtenBytes;
+    private boolean closed;
+
+    /**
+     * Constructs a new ConsoleSink and starts its writer thread.
+     *
+     * @param channel      the channel to write to
+     * @param bufferSize   the size of each batch buffer, at least
+     *                     {@link ConsoleTimeLogger#MAX_LINE_LENGTH}
+     * @param closeChannel whether closing the sink closes the channel
+     * @throws IllegalArgumentException if the buffer size is smaller than a line
+     */
+    ConsoleSink(WritableByteChannel channel, int bufferSize, boolean closeChannel) {
+        if (bufferSize < ConsoleTimeLogger.MAX_LINE_LENGTH) {
+            throw new IllegalArgumentException("Buffer size must be at least "
+                + ConsoleTimeLogger.MAX_LINE_LENGTH + ": " + bufferSize);
+        }
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        this.lock = new ReentrantLock();
+        this.batchReady = lock.newCondition();
+        this.batchTaken = lock.newCondition();
+        this.batchWritten = lock.newCondition();
+        this.filling = ByteBuffer.allocateDirect(bufferSize);
+        this.draining = ByteBuffer.allocateDirect(bufferSize);
+        this.writer = new Thread(this::drain, "jobserv-console-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(this::flushOnShutdown, "jobserv-console-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Returns the process-wide sink writing to {@link FileDescriptor#out}, creating it on first
+     * use.
+     *
+     * @return the standard output sink
+     */
+    static ConsoleSink stdout() {
+        return Stdout.SINK;
+    }
+
+    /**
+     * Copies a finished line into the current batch, waiting while the batch is full.
+     *
+     * @throws LoggingException if the sink is closed
+     */
+    void enqueue(LineBuffer line) throws LoggingException {
+        lock.lock();
+        try {
+            while (!closed && filling.remaining() < line.length()) {
+                batchTaken.awaitUninterruptibly();
+            }
+            if (closed) {
+                throw new LoggingException("Console logger is closed");
+            }
+            boolean wasEmpty = filling.position() == 0;
+            filling.put(line.bytes(), 0, line.length());
+            enqueuedBytes += line.length();
+            if (wasEmpty) {
+                batchReady.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every line enqueued before this call has been written.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void flush() throws InterruptedException {
+        lock.lock();
+        try {
+            long target = enqueuedBytes;
+            while (writtenBytes < target) {
+                batchWritten.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the lines still buffered, stops the writer thread and, if requested, closes the
+     * channel.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer
+     * @throws IOException          if the channel cannot be closed
+     */
+    void close() throws InterruptedException, IOException {
+        stopAccepting();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Already shutting down; the hook is running or has run
+        }
+        writer.join();
+        if (closeChannel) {
+            channel.close();
+        }
+    }
+
+    /**
+     * The writer loop: swaps the batch buffers and writes the filled one, until closed and empty.
+     */
+    private void drain() {
+        while (true) {
+            ByteBuffer batch;
+            lock.lock();
+            try {
+                while (filling.position() == 0 && !closed) {
+                    batchReady.awaitUninterruptibly();
+                }
+                if (filling.position() == 0) {
+                    return;
+                }
+                batch = filling;
+                filling = draining;
+                draining = batch;
+                batchTaken.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            batch.flip();
+            int size = batch.remaining();
+            try {
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+            } catch (IOException e) {
+                System.err.println("Error writing console log: " + e.getMessage());
+            }
+            batch.clear();
+
+            lock.lock();
+            try {
+                writtenBytes += size;
+                batchWritten.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void stopAccepting() {
+        lock.lock();
+        try {
+            closed = true;
+            batchReady.signal();
+            batchTaken.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushOnShutdown() {
+        stopAccepting();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Holds the standard output sink, created when first requested.
+     */
+    private static final class Stdout {
+
+        static final ConsoleSink SINK = new ConsoleSink(
+            new FileOutputStream(FileDescriptor.out).getChannel(),
+            ConsoleTimeLogger.DEFAULT_BUFFER_SIZE, false);
+    }
+}
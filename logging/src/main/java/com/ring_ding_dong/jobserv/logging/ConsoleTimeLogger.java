@@ -0,0 +1,197 @@
+package com.ring_ding_dong.jobserv.logging;
+
+import com.ring_ding_dong.jobserv.api.LogDestination;
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.LoggingException;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import com.ring_ding_dong.jobserv.common.internal.ThreadScratch;
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link LogDestination#CONSOLE} {@link TimeLogger}, writing one line per event to the
+ * standard output, for example:
+ * <pre>
+ * 2026-10-18T09:15:02.123Z INFO  [http-nio-8080-exec-1] findOrder took 15 ms (threshold 10 ms)
+ * </pre>
+ *
+ * <p>Logging an execution time does not allocate: every thread formats its line into a reusable
+ * buffer (pooled for virtual threads on Java 21), writing numbers and the timestamp directly as
+ * ASCII digits, and copies the finished line into a shared batch buffer. A single writer thread
+ * writes full batches to {@link FileDescriptor#out} through a
+ * {@link java.nio.channels.FileChannel}, so the application threads never wait for the console
+ * unless the batch buffer is full. The batch buffers and the writer thread are shared by every
+ * ConsoleTimeLogger of the process, and a line is always copied as a whole, so lines of concurrent
+ * threads and loggers never interleave. Messages logged with arguments are formatted with
+ * {@link String#format(String, Object...)} and do allocate.</p>
+ *
+ * <p>Since {@link System#out} is bypassed, lines may appear out of order relative to output
+ * printed through it. Closing a logger waits until its lines are written; lines still buffered
+ * when the JVM shuts down are written by a shutdown hook.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ConsoleTimeLogger implements TimeLogger {
+
+    /**
+     * The default size of each of the two batch buffers, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum length of a line in bytes; longer lines are truncated.
+     */
+    public static final int MAX_LINE_LENGTH = 4096;
+
+    private static final ThreadScratch<LineBuffer> LINE_BUFFERS =
+        new ThreadScratch<>(() -> new LineBuffer(MAX_LINE_LENGTH));
+    private static final byte[][] LEVEL_NAMES = new byte[LogLevel.values().length][];
+    private static final byte[][] UNIT_NAMES = new byte[TimeUnit.values().length][];
+    private static final byte[] TOOK = " took ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] THRESHOLD = " (threshold ".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        for (LogLevel level : LogLevel.values()) {
+            LEVEL_NAMES[level.ordinal()] = String.format("%-5s ", level)
+                .getBytes(StandardCharsets.US_ASCII);
+        }
+        String[] unitNames = {"ns", "us", "ms", "s", "min", "h", "d"};
+        for (TimeUnit unit : TimeUnit.values()) {
+            UNIT_NAMES[unit.ordinal()] = unitNames[unit.ordinal()]
+                .getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final LogLevel minimumLevel;
+    private final ConsoleSink sink;
+    private final boolean ownsSink;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new ConsoleTimeLogger that writes messages from {@link LogLevel#INFO} up.
+     */
+    public ConsoleTimeLogger() {
+        this(LogLevel.INFO);
+    }
+
+    /**
+     * Constructs a new ConsoleTimeLogger.
+     *
+     * @param minimumLevel the lowest level written; execution times are logged at
+     *                     {@link LogLevel#INFO}
+     */
+    public ConsoleTimeLogger(LogLevel minimumLevel) {
+        this(minimumLevel, ConsoleSink.stdout(), false);
+    }
+
+    /**
+     * Constructs a new ConsoleTimeLogger writing to an arbitrary channel through a sink of its
+     * own.
+     *
+     * @param minimumLevel the lowest level written
+     * @param channel      the channel to write to
+     * @param bufferSize   the size of each batch buffer, at least {@link #MAX_LINE_LENGTH}
+     * @param closeChannel whether closing the logger closes the channel
+     * @throws IllegalArgumentException if the buffer size is smaller than a line
+     */
+    ConsoleTimeLogger(LogLevel minimumLevel, WritableByteChannel channel, int bufferSize,
+        boolean closeChannel) {
+        this(minimumLevel, new ConsoleSink(channel, bufferSize, closeChannel), true);
+    }
+
+    /**
+     * Constructs a new ConsoleTimeLogger writing through the given sink.
+     *
+     * @param minimumLevel the lowest level written
+     * @param sink         the sink to write through
+     * @param ownsSink     whether closing the logger closes the sink
+     */
+    ConsoleTimeLogger(LogLevel minimumLevel, ConsoleSink sink, boolean ownsSink) {
+        this.minimumLevel = minimumLevel;
+        this.sink = sink;
+        this.ownsSink = ownsSink;
+    }
+
+    @Override
+    public void log(LogLevel level, String message, Object... args) throws LoggingException {
+        if (level.ordinal() < minimumLevel.ordinal()) {
+            return;
+        }
+        String text = args == null || args.length == 0 ? String.valueOf(message)
+            : String.format(message, args);
+        LineBuffer line = LINE_BUFFERS.acquire();
+        try {
+            enqueue(startLine(line, level).append(text).endLine());
+        } finally {
+            LINE_BUFFERS.release(line);
+        }
+    }
+
+    @Override
+    public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+        double threshold) throws LoggingException {
+        if (LogLevel.INFO.ordinal() < minimumLevel.ordinal()) {
+            return;
+        }
+        byte[] unit = UNIT_NAMES[timeUnit.ordinal()];
+        LineBuffer line = LINE_BUFFERS.acquire();
+        try {
+            startLine(line, LogLevel.INFO).append(methodName).append(TOOK).append(duration)
+                .append((byte) ' ').append(unit);
+            line.append(THRESHOLD).append(threshold).append((byte) ' ').append(unit);
+            enqueue(line.append((byte) ')').endLine());
+        } finally {
+            LINE_BUFFERS.release(line);
+        }
+    }
+
+    /**
+     * Waits until the lines logged so far have been written. A logger with a sink of its own also
+     * stops the sink's writer thread; the standard output sink is shared and keeps running.
+     *
+     * @throws LoggingException if interrupted while waiting for the writer, or if the channel
+     *                          cannot be closed
+     */
+    @Override
+    public void close() throws LoggingException {
+        closed = true;
+        try {
+            if (ownsSink) {
+                sink.close();
+            } else {
+                sink.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoggingException("Interrupted while flushing console log", e);
+        } catch (IOException e) {
+            throw new LoggingException("Error closing console log channel", e);
+        }
+    }
+
+    private static LineBuffer startLine(LineBuffer line, LogLevel level) {
+        return line.reset()
+            .appendTimestamp(System.currentTimeMillis())
+            .append((byte) ' ')
+            .append(LEVEL_NAMES[level.ordinal()])
+            .append((byte) '[')
+            .append(Thread.currentThread().getName())
+            .append((byte) ']')
+            .append((byte) ' ');
+    }
+
+    /**
+     * Hands a finished line to the sink, unless this logger has been closed.
+     */
+    private void enqueue(LineBuffer line) throws LoggingException {
+        if (closed) {
+            throw new LoggingException("Console logger is closed");
+        }
+        sink.enqueue(line);
+    }
+}
@@ -0,0 +1,229 @@
+package com.ring_ding_dong.jobserv.logging;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable, fixed-size byte buffer into which a single log line is formatted without allocating.
+ * Numbers are written directly as ASCII digits and strings are encoded as UTF-8 character by
+ * character. A line that does not fit is truncated and ends with {@code ...}.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LineBuffer {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE)
+        .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NAN = "NaN".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INFINITY = "Infinity".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ELLIPSIS = "...".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] bytes;
+    private int length;
+    private boolean truncated;
+
+    /**
+     * Constructs a new LineBuffer.
+     *
+     * @param capacity the maximum length of a line in bytes, including the line separator
+     */
+    LineBuffer(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    /**
+     * Discards the current line.
+     *
+     * @return this buffer
+     */
+    LineBuffer reset() {
+        length = 0;
+        truncated = false;
+        return this;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int length() {
+        return length;
+    }
+
+    LineBuffer append(byte b) {
+        if (length < bytes.length - 1) {
+            bytes[length++] = b;
+        } else {
+            truncated = true;
+        }
+        return this;
+    }
+
+    LineBuffer append(byte[] source) {
+        for (byte b : source) {
+            append(b);
+        }
+        return this;
+    }
+
+    /**
+     * Appends a string encoded as UTF-8. Unpaired surrogates are written as {@code ?}.
+     *
+     * @param text the text to append
+     * @return this buffer
+     */
+    LineBuffer append(CharSequence text) {
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                append((byte) c);
+            } else if (c < 0x800) {
+                append((byte) (0xC0 | c >> 6)).append((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n
+                && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                append((byte) (0xF0 | codePoint >> 18))
+                    .append((byte) (0x80 | codePoint >> 12 & 0x3F))
+                    .append((byte) (0x80 | codePoint >> 6 & 0x3F))
+                    .append((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                append((byte) '?');
+            } else {
+                append((byte) (0xE0 | c >> 12))
+                    .append((byte) (0x80 | c >> 6 & 0x3F))
+                    .append((byte) (0x80 | c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends a number as decimal ASCII digits.
+     *
+     * @param value the number to append
+     * @return this buffer
+     */
+    LineBuffer append(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append(MIN_LONG);
+        }
+        if (value < 0) {
+            append((byte) '-');
+            value = -value;
+        }
+        return appendDigits(value, digitCount(value));
+    }
+
+    /**
+     * Appends a number with at most three fraction digits and without trailing zeros.
+     *
+     * @param value the number to append
+     * @return this buffer
+     */
+    LineBuffer append(double value) {
+        if (Double.isNaN(value)) {
+            return append(NAN);
+        }
+        if (Double.isInfinite(value)) {
+            return value < 0 ? append((byte) '-').append(INFINITY) : append(INFINITY);
+        }
+        if (Math.abs(value) >= 1e15) {
+            return append((long) value);
+        }
+        long scaled = Math.round(value * 1000);
+        if (scaled < 0) {
+            append((byte) '-');
+            scaled = -scaled;
+        }
+        append(scaled / 1000);
+        int fraction = (int) (scaled % 1000);
+        if (fraction == 0) {
+            return this;
+        }
+        append((byte) '.');
+        if (fraction % 100 == 0) {
+            return appendDigits(fraction / 100, 1);
+        }
+        if (fraction % 10 == 0) {
+            return appendDigits(fraction / 10, 2);
+        }
+        return appendDigits(fraction, 3);
+    }
+
+    /**
+     * Appends a UTC timestamp in ISO-8601 format with millisecond precision, for example
+     * {@code 2026-10-18T09:15:02.123Z}.
+     *
+     * @param epochMillis the milliseconds since the epoch
+     * @return this buffer
+     */
+    LineBuffer appendTimestamp(long epochMillis) {
+        long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        long millisOfDay = Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+        // Civil date from days since 1970-01-01, see http://howardhinnant.github.io/date_algorithms.html
+        long z = days + 719_468;
+        long era = (z >= 0 ? z : z - 146_096) / 146_097;
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9_999) {
+            append(year);
+        } else {
+            appendDigits(year, 4);
+        }
+        append((byte) '-').appendDigits(month, 2).append((byte) '-').appendDigits(day, 2);
+        append((byte) 'T').appendDigits(millisOfDay / 3_600_000, 2);
+        append((byte) ':').appendDigits(millisOfDay / 60_000 % 60, 2);
+        append((byte) ':').appendDigits(millisOfDay / 1_000 % 60, 2);
+        return append((byte) '.').appendDigits(millisOfDay % 1_000, 3).append((byte) 'Z');
+    }
+
+    /**
+     * Terminates the line with a line feed, replacing its end with {@code ...} if it was
+     * truncated.
+     *
+     * @return this buffer
+     */
+    LineBuffer endLine() {
+        if (truncated) {
+            length = Math.max(0, bytes.length - 1 - ELLIPSIS.length);
+            // do not split a multi-byte character
+            while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+                length--;
+            }
+            System.arraycopy(ELLIPSIS, 0, bytes, length, ELLIPSIS.length);
+            length += ELLIPSIS.length;
+        }
+        bytes[length++] = '\n';
+        return this;
+    }
+
+    private LineBuffer appendDigits(long value, int digits) {
+        if (length + digits >= bytes.length) {
+            truncated = true;
+            return this;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
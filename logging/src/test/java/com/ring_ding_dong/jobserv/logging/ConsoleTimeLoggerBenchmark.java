@@ -0,0 +1,127 @@
+package com.ring_ding_dong.jobserv.logging;
+
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.LoggingException;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput and allocation of {@link ConsoleTimeLogger} with the common
+ * {@code System.out.println(String.format(...))} approach, both writing to the standard output.
+ * Results are printed to the standard error, so redirect the standard output when running it:
+ * <pre>
+ * ./gradlew :logging:consoleBenchmark -q &gt; /dev/null
+ * </pre>
+ *
+ * <p>Arguments: the number of threads (default 4) and the lines per thread (default
+ * 500000).</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ConsoleTimeLoggerBenchmark {
+
+    private ConsoleTimeLoggerBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int lines = args.length > 1 ? Integer.parseInt(args[1]) : 500_000;
+
+        TimeLogger systemOut = new SystemOutTimeLogger();
+        ConsoleTimeLogger console = new ConsoleTimeLogger();
+        for (int round = 0; round < 2; round++) {
+            String prefix = round == 0 ? "warm-up " : "";
+            report(prefix + "System.out", run(systemOut, threads, lines / 10), threads, lines / 10);
+            report(prefix + "ConsoleTimeLogger", run(console, threads, lines / 10), threads,
+                lines / 10);
+        }
+        report("System.out", run(systemOut, threads, lines), threads, lines);
+        report("ConsoleTimeLogger", run(console, threads, lines), threads, lines);
+        long start = System.nanoTime();
+        console.close();
+        System.err.printf("ConsoleTimeLogger drained its buffers in %.1f ms on close%n",
+            (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Runs the given number of threads logging the given number of lines each.
+     *
+     * @return the elapsed nanoseconds and the bytes allocated per line
+     */
+    private static double[] run(TimeLogger logger, int threads, int lines) throws Exception {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long[] allocated = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    long before = allocatedBytes(threadBean);
+                    for (int i = 0; i < lines; i++) {
+                        logger.logExecutionTime("benchmarkMethod", i & 1023,
+                            TimeUnit.MILLISECONDS, 10.5);
+                    }
+                    allocated[index] = allocatedBytes(threadBean) - before;
+                } catch (InterruptedException | LoggingException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    done.countDown();
+                }
+            }, "benchmark-" + t).start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        long totalAllocated = 0;
+        for (long bytes : allocated) {
+            totalAllocated += bytes;
+        }
+        return new double[]{elapsed, (double) totalAllocated / ((long) threads * lines)};
+    }
+
+    private static long allocatedBytes(ThreadMXBean threadBean) {
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(
+                Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static void report(String name, double[] result, int threads, int lines) {
+        long total = (long) threads * lines;
+        System.err.printf("%-26s %,12.0f lines/s %8.1f B/line allocated (%d threads x %,d)%n",
+            name, total / (result[0] / 1e9), result[1], threads, lines);
+    }
+
+    /**
+     * The straightforward implementation the console logger is compared with.
+     */
+    private static final class SystemOutTimeLogger implements TimeLogger {
+
+        @Override
+        public void log(LogLevel level, String message, Object... args) {
+            System.out.println(String.format(message, args));
+        }
+
+        @Override
+        public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+            double threshold) {
+            System.out.println(String.format("%s INFO  [%s] %s took %d %s (threshold %s %s)",
+                Instant.now(), Thread.currentThread().getName(), methodName, duration,
+                timeUnit, threshold, timeUnit));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.ring_ding_dong.jobserv.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.LoggingException;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class ConsoleTimeLoggerTest {
+
+    private static final Pattern EXECUTION_LINE = Pattern.compile(
+        "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}Z INFO  \\[([^\\]]+)] (\\S+) took (\\d+) ms"
+            + " \\(threshold 10 ms\\)");
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void testFormatsExecutionTime() throws LoggingException {
+        ConsoleTimeLogger logger = newLogger(LogLevel.INFO);
+        logger.logExecutionTime("findOrder", 15, TimeUnit.MILLISECONDS, 10.0);
+        logger.logExecutionTime("saveOrder", 1_500, TimeUnit.MICROSECONDS, 2.25);
+        logger.close();
+
+        String[] lines = lines();
+        assertEquals(2, lines.length);
+        Matcher matcher = EXECUTION_LINE.matcher(lines[0]);
+        assertTrue(matcher.matches(), lines[0]);
+        assertEquals(Thread.currentThread().getName(), matcher.group(1));
+        assertTrue(lines[1].endsWith(" saveOrder took 1500 us (threshold 2.25 us)"), lines[1]);
+    }
+
+    @Test
+    void testFiltersLevelsAndFormatsArguments() throws LoggingException {
+        ConsoleTimeLogger logger = newLogger(LogLevel.WARN);
+        logger.log(LogLevel.INFO, "dropped");
+        logger.logExecutionTime("findOrder", 15, TimeUnit.MILLISECONDS, 10.0);
+        logger.log(LogLevel.ERROR, "%s failed %d times", "sync", 3);
+        logger.close();
+
+        String[] lines = lines();
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].endsWith(" ERROR [" + Thread.currentThread().getName()
+            + "] sync failed 3 times"), lines[0]);
+    }
+
+    @Test
+    void testLinesAreAtomicUnderConcurrency() throws Exception {
+        ConsoleTimeLogger logger = newLogger(LogLevel.INFO);
+        int threads = 8;
+        int linesPerThread = 5_000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            String method = "method" + t;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < linesPerThread; i++) {
+                    try {
+                        logger.logExecutionTime(method, i, TimeUnit.MILLISECONDS, 10);
+                    } catch (LoggingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }, "worker-" + t);
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        logger.close();
+
+        String[] lines = lines();
+        assertEquals(threads * linesPerThread, lines.length);
+        Set<String> seen = new HashSet<>();
+        for (String line : lines) {
+            Matcher matcher = EXECUTION_LINE.matcher(line);
+            assertTrue(matcher.matches(), line);
+            assertEquals("worker-" + matcher.group(2).substring("method".length()),
+                matcher.group(1));
+            seen.add(matcher.group(2) + ":" + matcher.group(3));
+        }
+        assertEquals(threads * linesPerThread, seen.size());
+    }
+
+    @Test
+    void testLoggersShareOneSink() throws Exception {
+        ConsoleSink sink = new ConsoleSink(Channels.newChannel(output),
+            ConsoleTimeLogger.MAX_LINE_LENGTH, true);
+        ConsoleTimeLogger first = new ConsoleTimeLogger(LogLevel.INFO, sink, false);
+        ConsoleTimeLogger second = new ConsoleTimeLogger(LogLevel.INFO, sink, false);
+        first.logExecutionTime("findOrder", 15, TimeUnit.MILLISECONDS, 10.0);
+        first.close();
+        second.logExecutionTime("saveOrder", 20, TimeUnit.MILLISECONDS, 10.0);
+        second.close();
+
+        assertEquals(2, lines().length);
+        assertThrows(LoggingException.class, () -> first.log(LogLevel.INFO, "late"));
+        sink.close();
+    }
+
+    @Test
+    void testTruncatesLongLines() throws LoggingException {
+        ConsoleTimeLogger logger = newLogger(LogLevel.INFO);
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < ConsoleTimeLogger.MAX_LINE_LENGTH; i++) {
+            message.append('\u00e9');
+        }
+        logger.log(LogLevel.INFO, message.toString());
+        logger.close();
+
+        byte[] bytes = output.toByteArray();
+        assertTrue(bytes.length <= ConsoleTimeLogger.MAX_LINE_LENGTH);
+        assertTrue(new String(bytes, StandardCharsets.UTF_8).endsWith("\u00e9...\n"));
+    }
+
+    @Test
+    void testRejectsLinesAfterClose() throws LoggingException {
+        ConsoleTimeLogger logger = newLogger(LogLevel.INFO);
+        logger.close();
+        assertThrows(LoggingException.class, () -> logger.log(LogLevel.INFO, "late"));
+    }
+
+    @Test
+    void testFormatsNumbersAndTimestamps() {
+        LineBuffer line = new LineBuffer(256);
+        DateTimeFormatter iso = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+            .withZone(ZoneOffset.UTC);
+        long[] timestamps = {0, 951_782_400_000L, 1_792_318_502_123L, 4_107_542_399_999L, -1};
+        for (long timestamp : timestamps) {
+            assertEquals(iso.format(Instant.ofEpochMilli(timestamp)),
+                text(line.reset().appendTimestamp(timestamp)));
+        }
+        assertEquals("-9223372036854775808", text(line.reset().append(Long.MIN_VALUE)));
+        assertEquals("1234567890123", text(line.reset().append(1_234_567_890_123L)));
+        assertEquals("0.5", text(line.reset().append(0.5)));
+        assertEquals("-12.05", text(line.reset().append(-12.05)));
+        assertEquals("3.142", text(line.reset().append(Math.PI)));
+        assertEquals("NaN", text(line.reset().append(Double.NaN)));
+    }
+
+    private ConsoleTimeLogger newLogger(LogLevel level) {
+        return new ConsoleTimeLogger(level, Channels.newChannel(output),
+            ConsoleTimeLogger.MAX_LINE_LENGTH, true);
+    }
+
+    private String[] lines() {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n");
+    }
+
+    private static String text(LineBuffer line) {
+        return new String(line.bytes(), 0, line.length(), StandardCharsets.UTF_8);
+    }
+}
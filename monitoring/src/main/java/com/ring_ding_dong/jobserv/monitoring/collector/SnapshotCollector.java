@@ -0,0 +1,409 @@
+package com.ring_ding_dong.jobserv.monitoring.collector;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import com.ring_ding_dong.jobserv.monitoring.snapshot.MetricSnapshot;
+import com.ring_ding_dong.jobserv.monitoring.snapshot.SnapshotCodec;
+import com.ring_ding_dong.jobserv.monitoring.transport.LocalSockets;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives {@link MetricSnapshot}s from many {@link
+ * com.ring_ding_dong.jobserv.monitoring.transport.SnapshotSender}s and merges them into fleet-wide
+ * histograms and counters.
+ *
+ * <p>The collector keeps only the latest snapshot of every source. Because snapshots are
+ * cumulative, the fleet view is the sum of those latest snapshots, and a dropped or late snapshot
+ * never causes values to be counted twice.</p>
+ *
+ * <p>A source that has not delivered a snapshot for longer than the staleness timeout, measured
+ * with the collector's clock, is dropped from the fleet view. Otherwise a JVM that stopped or
+ * restarted under another source name would keep contributing its last cumulative snapshot
+ * forever. The timeout should span several reporting intervals of the senders.</p>
+ *
+ * <p>The collector can run embedded, or as a standalone process through {@link #main(String[])}:
+ * <pre>
+ * java -cp jobserv-monitoring.jar:jobserv-common.jar \
+ *     com.ring_ding_dong.jobserv.monitoring.collector.SnapshotCollector 7070 10
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SnapshotCollector implements Closeable {
+
+    /**
+     * Largest payload accepted from a sender, in bytes. Larger frames close the connection.
+     */
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Default time after which a source without new snapshots is dropped, in milliseconds.
+     */
+    public static final long DEFAULT_STALE_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final ServerSocketChannel serverChannel;
+    private final Path socketFile;
+    private final Selector selector;
+    private final ConcurrentHashMap<String, Source> latestBySource;
+    private final long staleAfterMillis;
+    private final Thread ioThread;
+    private volatile boolean running;
+
+    /**
+     * Constructs a new SnapshotCollector bound to the given address that drops sources after
+     * {@link #DEFAULT_STALE_AFTER_MILLIS}. Call {@link #start()} to begin accepting senders.
+     *
+     * @param bindAddress the address to listen on, either TCP or Unix-domain
+     * @throws IOException if the address cannot be bound
+     */
+    public SnapshotCollector(SocketAddress bindAddress) throws IOException {
+        this(bindAddress, DEFAULT_STALE_AFTER_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructs a new SnapshotCollector bound to the given address. Call {@link #start()} to
+     * begin accepting senders.
+     *
+     * @param bindAddress the address to listen on, either TCP or Unix-domain
+     * @param staleAfter  the time after which a source without new snapshots is dropped
+     * @param unit        the time unit of staleAfter
+     * @throws IOException              if the address cannot be bound
+     * @throws IllegalArgumentException if staleAfter is not positive
+     */
+    public SnapshotCollector(SocketAddress bindAddress, long staleAfter, TimeUnit unit)
+        throws IOException {
+        if (staleAfter <= 0) {
+            throw new IllegalArgumentException("staleAfter must be positive");
+        }
+        this.staleAfterMillis = unit.toMillis(staleAfter);
+        this.serverChannel = LocalSockets.openServerChannel(bindAddress);
+        this.serverChannel.bind(bindAddress);
+        this.socketFile = LocalSockets.unixDomainPath(bindAddress);
+        this.serverChannel.configureBlocking(false);
+        this.selector = Selector.open();
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.latestBySource = new ConcurrentHashMap<>();
+        this.ioThread = new Thread(this::run, "jobserv-snapshot-collector");
+        this.ioThread.setDaemon(true);
+    }
+
+    /**
+     * Starts the I/O thread that accepts senders and reads their snapshots.
+     */
+    public void start() {
+        running = true;
+        ioThread.start();
+    }
+
+    /**
+     * Returns the address the collector is listening on, which is useful when bound to an
+     * ephemeral port.
+     *
+     * @return the local address
+     * @throws IOException if the address cannot be determined
+     */
+    public SocketAddress getLocalAddress() throws IOException {
+        return serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Accepts a snapshot as if it had been received from a sender. Older snapshots of the same
+     * source than the one already held are ignored.
+     *
+     * @param snapshot the snapshot to accept
+     */
+    public void accept(MetricSnapshot snapshot) {
+        latestBySource.merge(snapshot.getSource(),
+            new Source(snapshot, System.currentTimeMillis()),
+            (held, received) -> received.snapshot.getTimestampMillis()
+                >= held.snapshot.getTimestampMillis() ? received : held);
+    }
+
+    /**
+     * Returns the number of sources that have delivered a snapshot within the staleness timeout.
+     *
+     * @return the number of sources
+     */
+    public int getSourceCount() {
+        evictStaleSources();
+        return latestBySource.size();
+    }
+
+    /**
+     * Returns the latest snapshot received from every source that is not stale.
+     *
+     * @return a map of source name to snapshot
+     */
+    public Map<String, MetricSnapshot> getLatestSnapshots() {
+        evictStaleSources();
+        Map<String, MetricSnapshot> snapshots = new TreeMap<>();
+        for (Map.Entry<String, Source> entry : latestBySource.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot);
+        }
+        return snapshots;
+    }
+
+    /**
+     * Merges the latest snapshot of every source into fleet-wide histograms.
+     *
+     * @return a map of method name to merged histogram, sorted by method name
+     */
+    public Map<String, LatencyHistogram> getFleetHistograms() {
+        Map<String, LatencyHistogram> merged = new TreeMap<>();
+        for (MetricSnapshot snapshot : getLatestSnapshots().values()) {
+            for (Map.Entry<String, LatencyHistogram> entry : snapshot.getHistograms().entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), name -> new LatencyHistogram())
+                    .add(entry.getValue());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Sums the latest counter values of every source.
+     *
+     * @return a map of counter name to fleet-wide value, sorted by counter name
+     */
+    public Map<String, Long> getFleetCounters() {
+        Map<String, Long> merged = new TreeMap<>();
+        for (MetricSnapshot snapshot : getLatestSnapshots().values()) {
+            for (Map.Entry<String, Long> entry : snapshot.getCounters().entrySet()) {
+                merged.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Formats the fleet-wide histograms as a human-readable table of percentiles in
+     * milliseconds.
+     *
+     * @return the report text
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d sources%n", getSourceCount()));
+        report.append(String.format("%-40s %10s %10s %10s %10s %10s%n",
+            "method", "count", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (Map.Entry<String, LatencyHistogram> entry : getFleetHistograms().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            report.append(String.format("%-40s %10d %10.3f %10.3f %10.3f %10.3f%n",
+                entry.getKey(), histogram.getCount(),
+                toMillis(histogram.getValueAtPercentile(50.0)),
+                toMillis(histogram.getValueAtPercentile(90.0)),
+                toMillis(histogram.getValueAtPercentile(99.0)),
+                toMillis(histogram.getMax())));
+        }
+        for (Map.Entry<String, Long> entry : getFleetCounters().entrySet()) {
+            report.append(String.format("%-40s %10d%n", entry.getKey(), entry.getValue()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Stops the I/O thread and closes all connections. When bound to a Unix-domain address, the
+     * socket file is deleted, so that the path can be bound again.
+     *
+     * @throws IOException if the server channel cannot be closed or the socket file deleted
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        if (ioThread.isAlive()) {
+            try {
+                ioThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+        serverChannel.close();
+        if (socketFile != null) {
+            Files.deleteIfExists(socketFile);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                selector.select();
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        acceptSender();
+                    } else if (key.isReadable()) {
+                        readFrames(key);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Error in snapshot collector: " + e.getMessage());
+            }
+        }
+    }
+
+    private void acceptSender() throws IOException {
+        SocketChannel sender = serverChannel.accept();
+        if (sender != null) {
+            sender.configureBlocking(false);
+            sender.register(selector, SelectionKey.OP_READ, new FrameReader());
+        }
+    }
+
+    private void readFrames(SelectionKey key) {
+        SocketChannel sender = (SocketChannel) key.channel();
+        FrameReader reader = (FrameReader) key.attachment();
+        try {
+            if (!reader.read(sender, this)) {
+                key.cancel();
+                sender.close();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Dropping snapshot sender: " + e.getMessage());
+            key.cancel();
+            try {
+                sender.close();
+            } catch (IOException ignored) {
+                // The connection is discarded either way
+            }
+        }
+    }
+
+    private void evictStaleSources() {
+        long oldest = System.currentTimeMillis() - staleAfterMillis;
+        latestBySource.values().removeIf(source -> source.receivedMillis < oldest);
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The latest snapshot of one source and when the collector received it.
+     */
+    private static class Source {
+
+        private final MetricSnapshot snapshot;
+        private final long receivedMillis;
+
+        Source(MetricSnapshot snapshot, long receivedMillis) {
+            this.snapshot = snapshot;
+            this.receivedMillis = receivedMillis;
+        }
+    }
+
+    /**
+     * Reassembles length-prefixed frames from the byte stream of one sender.
+     */
+    private static class FrameReader {
+
+        private final ByteBuffer header = ByteBuffer.allocate(SnapshotCodec.FRAME_HEADER_SIZE);
+        private ByteBuffer payload;
+
+        /**
+         * Reads as many bytes as available and hands every completed frame to the collector.
+         *
+         * @return false if the sender closed the connection
+         */
+        boolean read(SocketChannel channel, SnapshotCollector collector) throws IOException {
+            while (true) {
+                if (payload == null) {
+                    if (channel.read(header) < 0) {
+                        return false;
+                    }
+                    if (header.hasRemaining()) {
+                        return true;
+                    }
+                    header.flip();
+                    int length = header.getInt();
+                    header.clear();
+                    if (length <= 0 || length > MAX_FRAME_SIZE) {
+                        throw new IllegalArgumentException("Invalid frame length: " + length);
+                    }
+                    payload = ByteBuffer.allocate(length);
+                }
+                if (channel.read(payload) < 0) {
+                    return false;
+                }
+                if (payload.hasRemaining()) {
+                    return true;
+                }
+                payload.flip();
+                collector.accept(SnapshotCodec.decode(payload));
+                payload = null;
+            }
+        }
+    }
+
+    /**
+     * Runs a standalone collector that prints a fleet-wide report at a fixed interval.
+     *
+     * <p>Arguments: {@code <port | unix-socket-path> [report-interval-seconds]
+     * [stale-after-seconds]}. A numeric first argument binds a TCP port on all interfaces;
+     * anything else is taken as the path of a Unix-domain socket. A socket file left behind at
+     * that path by a collector that did not shut down cleanly is replaced.</p>
+     *
+     * @param args the command line arguments
+     * @throws Exception if the collector cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println(
+                "Usage: SnapshotCollector <port | unix-socket-path> [report-interval-seconds]"
+                    + " [stale-after-seconds]");
+            System.exit(1);
+        }
+        SocketAddress address;
+        if (args[0].matches("\\d+")) {
+            address = new InetSocketAddress(Integer.parseInt(args[0]));
+        } else {
+            Path socketFile = Paths.get(args[0]);
+            address = LocalSockets.unixDomain(socketFile);
+            Files.deleteIfExists(socketFile);
+        }
+        long intervalSeconds = args.length > 1 ? Long.parseLong(args[1]) : 10;
+        long staleAfterSeconds = args.length > 2 ? Long.parseLong(args[2])
+            : TimeUnit.MILLISECONDS.toSeconds(DEFAULT_STALE_AFTER_MILLIS);
+
+        SnapshotCollector collector = new SnapshotCollector(address, staleAfterSeconds,
+            TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                collector.close();
+            } catch (IOException e) {
+                System.err.println("Error closing snapshot collector: " + e.getMessage());
+            }
+        }));
+        collector.start();
+        System.out.println("Collecting snapshots on " + collector.getLocalAddress());
+        while (true) {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(intervalSeconds));
+            System.out.print(collector.report());
+        }
+    }
+}
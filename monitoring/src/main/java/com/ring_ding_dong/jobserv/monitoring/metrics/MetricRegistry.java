@@ -0,0 +1,91 @@
+package com.ring_ding_dong.jobserv.monitoring.metrics;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import com.ring_ding_dong.jobserv.monitoring.snapshot.MetricSnapshot;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the per-method latency histograms and named counters of a single JVM. The registry is the
+ * source of {@link MetricSnapshot}s that are shipped to a collector.
+ *
+ * <p>All values are cumulative for the lifetime of the registry, so a snapshot always describes
+ * everything recorded so far. This lets a collector replace an older snapshot of the same source
+ * with a newer one without losing data when a snapshot is dropped in transit.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricRegistry {
+
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms;
+    private final ConcurrentHashMap<String, LongAdder> counters;
+
+    /**
+     * Constructs a new, empty MetricRegistry.
+     */
+    public MetricRegistry() {
+        this.histograms = new ConcurrentHashMap<>();
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Records a duration for the given method.
+     *
+     * @param methodName    the name of the measured method
+     * @param durationNanos the measured duration in nanoseconds
+     */
+    public void recordDuration(String methodName, long durationNanos) {
+        histogram(methodName).record(durationNanos);
+    }
+
+    /**
+     * Returns the histogram for the given method, creating it if necessary.
+     *
+     * @param methodName the name of the measured method
+     * @return the live histogram of the method
+     */
+    public LatencyHistogram histogram(String methodName) {
+        LatencyHistogram histogram = histograms.get(methodName);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(methodName, name -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    /**
+     * Adds the given amount to a named counter, creating the counter if necessary.
+     *
+     * @param counterName the name of the counter
+     * @param delta       the amount to add
+     */
+    public void increment(String counterName, long delta) {
+        LongAdder counter = counters.get(counterName);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(counterName, name -> new LongAdder());
+        }
+        counter.add(delta);
+    }
+
+    /**
+     * Creates a snapshot of all histograms and counters.
+     *
+     * @param source a name identifying this JVM, for example {@code host:pid}
+     * @return a snapshot holding copies of the current values
+     */
+    public MetricSnapshot snapshot(String source) {
+        Map<String, LatencyHistogram> histogramCopies = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            histogramCopies.put(entry.getKey(), entry.getValue().copy());
+        }
+        Map<String, Long> counterValues = new LinkedHashMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            counterValues.put(entry.getKey(), entry.getValue().sum());
+        }
+        return new MetricSnapshot(source, System.currentTimeMillis(), histogramCopies,
+            counterValues);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ring_ding_dong.jobserv.monitoring.metrics;
+
+import com.ring_ding_dong.jobserv.core.MeasurementListener;
+
+/**
+ * A {@link MeasurementListener} that records every measured execution time into a
+ * {@link MetricRegistry}. Listeners are called for every call of a measured method, whatever its
+ * logging threshold, and receive the duration in nanoseconds, so the histograms of the registry
+ * describe the full latency distribution of each method.
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * MetricRegistry registry = new MetricRegistry();
+ * factory.getProcessor().addListener(new MetricsMeasurementListener(registry));
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricsMeasurementListener implements MeasurementListener {
+
+    private final MetricRegistry registry;
+
+    /**
+     * Constructs a new MetricsMeasurementListener that records into the given registry.
+     *
+     * @param registry the registry to record into
+     */
+    public MetricsMeasurementListener(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onMeasurement(String methodName, long durationNanos, Throwable failure) {
+        registry.recordDuration(methodName, durationNanos);
+    }
+}
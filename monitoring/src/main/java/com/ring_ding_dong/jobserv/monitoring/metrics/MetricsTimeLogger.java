@@ -0,0 +1,50 @@
+package com.ring_ding_dong.jobserv.monitoring.metrics;
+
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link TimeLogger} that records execution times into a {@link MetricRegistry} instead of
+ * writing them out. Every logged execution time is added to the method's histogram, and free-form
+ * log messages are counted per level in the {@code log.<level>} counters.
+ *
+ * <p>The histograms this logger fills are lossy: a logger only sees the calls at or above the
+ * method's threshold, truncated to the method's time unit, so with the defaults every call under a
+ * millisecond is either missing or counted as zero. To record the latency distribution, register a
+ * {@link MetricsMeasurementListener} with the processor instead, and use this logger only to count
+ * log messages or when whole units of slow calls are all that matters.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricsTimeLogger implements TimeLogger {
+
+    private final MetricRegistry registry;
+
+    /**
+     * Constructs a new MetricsTimeLogger that records into the given registry.
+     *
+     * @param registry the registry to record into
+     */
+    public MetricsTimeLogger(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void log(LogLevel level, String message, Object... args) {
+        registry.increment("log." + level.name().toLowerCase(), 1);
+    }
+
+    @Override
+    public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+        double threshold) {
+        registry.recordDuration(methodName, timeUnit.toNanos(duration));
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release; the registry outlives the logger
+    }
+}
@@ -0,0 +1,77 @@
+package com.ring_ding_dong.jobserv.monitoring.snapshot;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A point-in-time view of the per-method histograms and counters of one source JVM. Snapshots are
+ * encoded by {@link SnapshotCodec} and shipped to a collector, which merges the latest snapshot of
+ * every source into fleet-wide values.
+ *
+ * <p>The histograms held by a snapshot are private copies and must not be modified.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricSnapshot {
+
+    private final String source;
+    private final long timestampMillis;
+    private final Map<String, LatencyHistogram> histograms;
+    private final Map<String, Long> counters;
+
+    /**
+     * Constructs a new MetricSnapshot.
+     *
+     * @param source          a name identifying the JVM that produced the snapshot
+     * @param timestampMillis the wall-clock time at which the snapshot was taken
+     * @param histograms      the per-method histograms, keyed by method name
+     * @param counters        the counter values, keyed by counter name
+     */
+    public MetricSnapshot(String source, long timestampMillis,
+        Map<String, LatencyHistogram> histograms, Map<String, Long> counters) {
+        this.source = source;
+        this.timestampMillis = timestampMillis;
+        this.histograms = Collections.unmodifiableMap(new LinkedHashMap<>(histograms));
+        this.counters = Collections.unmodifiableMap(new LinkedHashMap<>(counters));
+    }
+
+    /**
+     * Returns the name of the JVM that produced this snapshot.
+     *
+     * @return the source name
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the wall-clock time at which this snapshot was taken.
+     *
+     * @return the timestamp in milliseconds since the epoch
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Returns the per-method histograms.
+     *
+     * @return an unmodifiable map of method name to histogram
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Returns the counter values.
+     *
+     * @return an unmodifiable map of counter name to value
+     */
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+}
@@ -0,0 +1,198 @@
+package com.ring_ding_dong.jobserv.monitoring.snapshot;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes and decodes {@link MetricSnapshot}s into a compact binary form suitable for shipping over
+ * a socket.
+ *
+ * <p>The payload layout is:
+ * <pre>
+ * magic (4 bytes) | version (1 byte) | source | timestamp | histogram count | histograms...
+ *                 | counter count | counters...
+ *
+ * histogram = name | sum | min | max | non-empty bucket count | (index delta, count)...
+ * counter   = name | zig-zag value
+ * </pre>
+ * Strings are a length followed by UTF-8 bytes, and every number is a variable-length integer.
+ * Only non-empty buckets are written, each as the distance to the previous non-empty bucket, so a
+ * typical latency histogram takes a few dozen bytes.</p>
+ *
+ * <p>On the wire every payload is preceded by a 4-byte big-endian length, see
+ * {@link #encodeFrame(MetricSnapshot)}.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SnapshotCodec {
+
+    /**
+     * Magic number at the start of every payload ({@code "JOBS"} in ASCII).
+     */
+    public static final int MAGIC = 0x4A4F4253;
+
+    /**
+     * Current version of the payload layout.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * Size of the length prefix of a frame, in bytes.
+     */
+    public static final int FRAME_HEADER_SIZE = 4;
+
+    private SnapshotCodec() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encodes a snapshot into a payload without a length prefix.
+     *
+     * @param snapshot the snapshot to encode
+     * @return the encoded payload
+     */
+    public static byte[] encode(MetricSnapshot snapshot) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        writeInt(out, MAGIC);
+        out.write(VERSION);
+        writeString(out, snapshot.getSource());
+        VarInts.writeUnsigned(out, snapshot.getTimestampMillis());
+
+        VarInts.writeUnsigned(out, snapshot.getHistograms().size());
+        for (Map.Entry<String, LatencyHistogram> entry : snapshot.getHistograms().entrySet()) {
+            writeString(out, entry.getKey());
+            writeHistogram(out, entry.getValue());
+        }
+
+        VarInts.writeUnsigned(out, snapshot.getCounters().size());
+        for (Map.Entry<String, Long> entry : snapshot.getCounters().entrySet()) {
+            writeString(out, entry.getKey());
+            VarInts.writeSigned(out, entry.getValue());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a snapshot into a length-prefixed frame ready to be written to a socket.
+     *
+     * @param snapshot the snapshot to encode
+     * @return a buffer positioned at the start of the frame
+     */
+    public static ByteBuffer encodeFrame(MetricSnapshot snapshot) {
+        byte[] payload = encode(snapshot);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length);
+        frame.putInt(payload.length);
+        frame.put(payload);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Decodes a payload produced by {@link #encode(MetricSnapshot)}.
+     *
+     * @param payload a buffer holding exactly one payload, without length prefix
+     * @return the decoded snapshot
+     * @throws IllegalArgumentException if the payload is malformed or of an unknown version
+     */
+    public static MetricSnapshot decode(ByteBuffer payload) {
+        try {
+            if (payload.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a snapshot payload");
+            }
+            byte version = payload.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+            }
+            String source = readString(payload);
+            long timestampMillis = VarInts.readUnsigned(payload);
+
+            int histogramCount = VarInts.readUnsignedInt(payload);
+            Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+            for (int i = 0; i < histogramCount; i++) {
+                String name = readString(payload);
+                histograms.put(name, readHistogram(payload));
+            }
+
+            int counterCount = VarInts.readUnsignedInt(payload);
+            Map<String, Long> counters = new LinkedHashMap<>();
+            for (int i = 0; i < counterCount; i++) {
+                String name = readString(payload);
+                counters.put(name, VarInts.readSigned(payload));
+            }
+            return new MetricSnapshot(source, timestampMillis, histograms, counters);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated snapshot payload", e);
+        }
+    }
+
+    private static void writeHistogram(ByteArrayOutputStream out, LatencyHistogram histogram) {
+        long[] counts = histogram.getBucketCounts();
+        int nonEmpty = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                nonEmpty++;
+            }
+        }
+        VarInts.writeUnsigned(out, histogram.getSum());
+        VarInts.writeUnsigned(out, histogram.getMin());
+        VarInts.writeUnsigned(out, histogram.getMax());
+        VarInts.writeUnsigned(out, nonEmpty);
+        int previous = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                VarInts.writeUnsigned(out, i - previous);
+                VarInts.writeUnsigned(out, counts[i]);
+                previous = i;
+            }
+        }
+    }
+
+    private static LatencyHistogram readHistogram(ByteBuffer in) {
+        long sum = VarInts.readUnsigned(in);
+        long min = VarInts.readUnsigned(in);
+        long max = VarInts.readUnsigned(in);
+        int nonEmpty = VarInts.readUnsignedInt(in);
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        int index = 0;
+        for (int i = 0; i < nonEmpty; i++) {
+            index += VarInts.readUnsignedInt(in);
+            if (index >= counts.length) {
+                throw new IllegalArgumentException("Bucket index out of range: " + index);
+            }
+            counts[index] = VarInts.readUnsigned(in);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.add(counts, sum, min, max);
+        return histogram;
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VarInts.writeUnsigned(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = VarInts.readUnsignedInt(in);
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("String length exceeds payload: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
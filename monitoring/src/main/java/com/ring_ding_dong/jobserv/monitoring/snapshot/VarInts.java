@@ -0,0 +1,53 @@
+package com.ring_ding_dong.jobserv.monitoring.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length integer helpers used by {@link SnapshotCodec}. Values are written seven bits at a
+ * time, least significant group first, with the high bit of each byte marking a continuation.
+ * Signed values are zig-zag encoded first so that small negative numbers stay short.
+ */
+final class VarInts {
+
+    private VarInts() {
+        // Private constructor to prevent instantiation
+    }
+
+    static void writeUnsigned(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeSigned(ByteArrayOutputStream out, long value) {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readUnsigned(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+
+    static long readSigned(ByteBuffer in) {
+        long value = readUnsigned(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int readUnsignedInt(ByteBuffer in) {
+        long value = readUnsigned(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value does not fit in an int: " + value);
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ring_ding_dong.jobserv.monitoring.transport;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Opens socket channels for either TCP or Unix-domain addresses. Unix-domain sockets are only
+ * available in NIO from Java 16 on, so they are reached reflectively to keep this module on the
+ * Java 8 baseline. On older runtimes, use a loopback TCP address instead.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LocalSockets {
+
+    private LocalSockets() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns whether Unix-domain socket channels are supported by the running JVM.
+     *
+     * @return true if {@link #unixDomain(Path)} can be used
+     */
+    public static boolean isUnixDomainSupported() {
+        try {
+            Class.forName("java.net.UnixDomainSocketAddress");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a Unix-domain socket address for the given path.
+     *
+     * @param path the path of the socket file
+     * @return the socket address
+     * @throws UnsupportedOperationException if the running JVM does not support Unix-domain
+     *                                       socket channels
+     */
+    public static SocketAddress unixDomain(Path path) {
+        try {
+            Class<?> addressClass = Class.forName("java.net.UnixDomainSocketAddress");
+            return (SocketAddress) addressClass.getMethod("of", Path.class).invoke(null, path);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException(
+                "Unix-domain sockets require Java 16 or later", e);
+        }
+    }
+
+    /**
+     * Returns the path of the socket file of a Unix-domain address.
+     *
+     * @param address a TCP or Unix-domain socket address
+     * @return the path of the socket file, or null if the address is not a Unix-domain address
+     */
+    public static Path unixDomainPath(SocketAddress address) {
+        if (address == null || address instanceof InetSocketAddress) {
+            return null;
+        }
+        try {
+            Class<?> addressClass = Class.forName("java.net.UnixDomainSocketAddress");
+            if (!addressClass.isInstance(address)) {
+                return null;
+            }
+            return (Path) addressClass.getMethod("getPath").invoke(address);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Opens an unconnected socket channel suitable for the given address.
+     *
+     * @param address the address the channel will connect to
+     * @return a new socket channel
+     * @throws IOException if the channel cannot be opened
+     */
+    public static SocketChannel openChannel(SocketAddress address) throws IOException {
+        if (address instanceof InetSocketAddress) {
+            return SocketChannel.open();
+        }
+        return (SocketChannel) openUnixChannel(SocketChannel.class);
+    }
+
+    /**
+     * Opens an unbound server socket channel suitable for the given address.
+     *
+     * @param address the address the channel will be bound to
+     * @return a new server socket channel
+     * @throws IOException if the channel cannot be opened
+     */
+    public static ServerSocketChannel openServerChannel(SocketAddress address) throws IOException {
+        if (address instanceof InetSocketAddress) {
+            return ServerSocketChannel.open();
+        }
+        return (ServerSocketChannel) openUnixChannel(ServerSocketChannel.class);
+    }
+
+    private static Object openUnixChannel(Class<?> channelClass) throws IOException {
+        try {
+            ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+            Method open = channelClass.getMethod("open", ProtocolFamily.class);
+            return open.invoke(null, unix);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Unable to open Unix-domain channel", e.getCause());
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new UnsupportedOperationException(
+                "Unix-domain sockets require Java 16 or later", e);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.ring_ding_dong.jobserv.monitoring.transport;
+
+import com.ring_ding_dong.jobserv.monitoring.snapshot.MetricSnapshot;
+import com.ring_ding_dong.jobserv.monitoring.snapshot.SnapshotCodec;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Ships {@link MetricSnapshot}s to a collector over a non-blocking socket channel. Callers never
+ * block on the network: {@link #send(MetricSnapshot)} only encodes the snapshot and queues the
+ * frame, and a single daemon I/O thread drives connecting, writing and reconnecting through a
+ * {@link Selector}.
+ *
+ * <p>Snapshots are cumulative, so when the collector is unreachable the oldest queued frames are
+ * dropped first; the newest frame still carries everything recorded so far. Lost connections are
+ * re-established with exponential back-off, and a partially written frame is resent from its
+ * start on the new connection.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * MetricRegistry registry = new MetricRegistry();
+ * SnapshotSender sender = new SnapshotSender(new InetSocketAddress("localhost", 7070),
+ *     () -> registry.snapshot("orders-1"), 10, TimeUnit.SECONDS);
+ * // ...
+ * sender.close();
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SnapshotSender implements Closeable {
+
+    /**
+     * Default maximum number of frames waiting to be written.
+     */
+    public static final int DEFAULT_MAX_PENDING_FRAMES = 64;
+
+    private static final long INITIAL_RECONNECT_DELAY_MILLIS = 100;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 5000;
+
+    private final SocketAddress address;
+    private final int maxPendingFrames;
+    private final Supplier<MetricSnapshot> snapshotSource;
+    private final long intervalMillis;
+    private final ConcurrentLinkedQueue<ByteBuffer> pending;
+    private final AtomicInteger pendingCount;
+    private final AtomicLong sentFrames;
+    private final AtomicLong droppedFrames;
+    private final Selector selector;
+    private final Thread ioThread;
+    private volatile boolean running;
+    private volatile boolean connected;
+
+    // State below is confined to the I/O thread
+    private SocketChannel channel;
+    private SelectionKey key;
+    private ByteBuffer current;
+    private long nextConnectAttempt;
+    private long reconnectDelay;
+    private long nextSnapshot;
+
+    /**
+     * Constructs a new SnapshotSender that only ships snapshots passed to
+     * {@link #send(MetricSnapshot)}.
+     *
+     * @param address the collector address, either TCP or Unix-domain
+     * @throws IOException if the selector cannot be opened
+     */
+    public SnapshotSender(SocketAddress address) throws IOException {
+        this(address, null, 0, TimeUnit.MILLISECONDS, DEFAULT_MAX_PENDING_FRAMES);
+    }
+
+    /**
+     * Constructs a new SnapshotSender that takes a snapshot from the given source at a fixed
+     * interval and ships it.
+     *
+     * @param address        the collector address, either TCP or Unix-domain
+     * @param snapshotSource the supplier of snapshots, called on the I/O thread
+     * @param interval       the interval between snapshots
+     * @param unit           the time unit of the interval
+     * @throws IOException if the selector cannot be opened
+     */
+    public SnapshotSender(SocketAddress address, Supplier<MetricSnapshot> snapshotSource,
+        long interval, TimeUnit unit) throws IOException {
+        this(address, snapshotSource, interval, unit, DEFAULT_MAX_PENDING_FRAMES);
+    }
+
+    /**
+     * Constructs a new SnapshotSender.
+     *
+     * @param address          the collector address, either TCP or Unix-domain
+     * @param snapshotSource   the supplier of periodic snapshots, or null to only ship snapshots
+     *                         passed to {@link #send(MetricSnapshot)}
+     * @param interval         the interval between periodic snapshots
+     * @param unit             the time unit of the interval
+     * @param maxPendingFrames the maximum number of frames waiting to be written
+     * @throws IOException              if the selector cannot be opened
+     * @throws IllegalArgumentException if {@code maxPendingFrames} is not positive, or if a
+     *                                  snapshot source is given with a non-positive interval
+     */
+    public SnapshotSender(SocketAddress address, Supplier<MetricSnapshot> snapshotSource,
+        long interval, TimeUnit unit, int maxPendingFrames) throws IOException {
+        if (maxPendingFrames <= 0) {
+            throw new IllegalArgumentException("maxPendingFrames must be positive");
+        }
+        if (snapshotSource != null && interval <= 0) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        this.address = address;
+        this.maxPendingFrames = maxPendingFrames;
+        this.snapshotSource = snapshotSource;
+        this.intervalMillis = unit.toMillis(interval);
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.pendingCount = new AtomicInteger();
+        this.sentFrames = new AtomicLong();
+        this.droppedFrames = new AtomicLong();
+        this.reconnectDelay = INITIAL_RECONNECT_DELAY_MILLIS;
+        this.nextSnapshot = System.currentTimeMillis() + intervalMillis;
+        this.selector = Selector.open();
+        this.running = true;
+        this.ioThread = new Thread(this::run, "jobserv-snapshot-sender");
+        this.ioThread.setDaemon(true);
+        this.ioThread.start();
+    }
+
+    /**
+     * Queues a snapshot for shipping. This method never blocks on the network; if the queue is
+     * full, the oldest queued frame is dropped.
+     *
+     * @param snapshot the snapshot to ship
+     */
+    public void send(MetricSnapshot snapshot) {
+        ByteBuffer frame = SnapshotCodec.encodeFrame(snapshot);
+        while (pendingCount.get() >= maxPendingFrames && pending.poll() != null) {
+            pendingCount.decrementAndGet();
+            droppedFrames.incrementAndGet();
+        }
+        pending.offer(frame);
+        pendingCount.incrementAndGet();
+        selector.wakeup();
+    }
+
+    /**
+     * Returns whether the sender currently holds an established connection to the collector.
+     *
+     * @return true if connected
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Returns the number of frames completely written to the collector.
+     *
+     * @return the number of sent frames
+     */
+    public long getSentFrames() {
+        return sentFrames.get();
+    }
+
+    /**
+     * Returns the number of frames dropped because the queue was full.
+     *
+     * @return the number of dropped frames
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Stops the I/O thread after a last non-blocking attempt to write queued frames, and closes
+     * the connection.
+     *
+     * @throws IOException if the selector cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            ioThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        selector.close();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (snapshotSource != null && now >= nextSnapshot) {
+                    send(snapshotSource.get());
+                    nextSnapshot = now + intervalMillis;
+                }
+                if (channel == null && now >= nextConnectAttempt) {
+                    connect();
+                }
+                updateInterest();
+                selector.select(selectTimeout(System.currentTimeMillis()));
+                processSelectedKeys();
+            } catch (IOException e) {
+                disconnect();
+            } catch (RuntimeException e) {
+                // A failing snapshot source must not kill the sender
+                System.err.println("Error shipping metric snapshot: " + e.getMessage());
+            }
+        }
+        try {
+            if (connected) {
+                writePending();
+            }
+        } catch (IOException e) {
+            // Best effort only; the collector keeps the last snapshot it received
+        }
+        closeChannel();
+    }
+
+    private long selectTimeout(long now) {
+        long timeout = Long.MAX_VALUE;
+        if (channel == null) {
+            timeout = Math.max(1, nextConnectAttempt - now);
+        }
+        if (snapshotSource != null) {
+            timeout = Math.min(timeout, Math.max(1, nextSnapshot - now));
+        }
+        return timeout == Long.MAX_VALUE ? 0 : timeout;
+    }
+
+    private void connect() throws IOException {
+        channel = LocalSockets.openChannel(address);
+        channel.configureBlocking(false);
+        if (channel.connect(address)) {
+            key = channel.register(selector, SelectionKey.OP_READ);
+            onConnected();
+        } else {
+            key = channel.register(selector, SelectionKey.OP_CONNECT);
+        }
+    }
+
+    private void onConnected() {
+        connected = true;
+        reconnectDelay = INITIAL_RECONNECT_DELAY_MILLIS;
+    }
+
+    private void updateInterest() {
+        if (connected && key != null && key.isValid()) {
+            boolean hasData = current != null || !pending.isEmpty();
+            key.interestOps(SelectionKey.OP_READ | (hasData ? SelectionKey.OP_WRITE : 0));
+        }
+    }
+
+    private void processSelectedKeys() throws IOException {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            SelectionKey selected = iterator.next();
+            iterator.remove();
+            if (!selected.isValid()) {
+                continue;
+            }
+            if (selected.isConnectable() && channel.finishConnect()) {
+                selected.interestOps(SelectionKey.OP_READ);
+                onConnected();
+            }
+            if (selected.isValid() && selected.isReadable()) {
+                // The collector never writes; a readable channel means it was closed
+                ByteBuffer discard = ByteBuffer.allocate(64);
+                if (channel.read(discard) < 0) {
+                    throw new IOException("Connection closed by collector");
+                }
+            }
+            if (selected.isValid() && selected.isWritable()) {
+                writePending();
+            }
+        }
+    }
+
+    private void writePending() throws IOException {
+        while (true) {
+            if (current == null) {
+                current = pending.poll();
+                if (current == null) {
+                    return;
+                }
+                pendingCount.decrementAndGet();
+            }
+            channel.write(current);
+            if (current.hasRemaining()) {
+                return;
+            }
+            current = null;
+            sentFrames.incrementAndGet();
+        }
+    }
+
+    private void disconnect() {
+        closeChannel();
+        if (current != null) {
+            current.rewind();
+        }
+        nextConnectAttempt = System.currentTimeMillis() + reconnectDelay;
+        reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+    }
+
+    private void closeChannel() {
+        connected = false;
+        key = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Ignore; the channel is discarded either way
+            }
+            channel = null;
+        }
+    }
+}
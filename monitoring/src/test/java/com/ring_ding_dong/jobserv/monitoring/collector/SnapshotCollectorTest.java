@@ -0,0 +1,151 @@
+package com.ring_ding_dong.jobserv.monitoring.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import com.ring_ding_dong.jobserv.monitoring.metrics.MetricRegistry;
+import com.ring_ding_dong.jobserv.monitoring.transport.LocalSockets;
+import com.ring_ding_dong.jobserv.monitoring.transport.SnapshotSender;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotCollectorTest {
+
+    @TempDir
+    Path directory;
+
+    private SnapshotCollector collector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        collector = new SnapshotCollector(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        collector.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        collector.close();
+    }
+
+    @Test
+    void testMergesSnapshotsFromManySenders() throws Exception {
+        SocketAddress address = collector.getLocalAddress();
+        MetricRegistry first = new MetricRegistry();
+        MetricRegistry second = new MetricRegistry();
+        for (int i = 1; i <= 100; i++) {
+            first.recordDuration("checkout", TimeUnit.MILLISECONDS.toNanos(i));
+            second.recordDuration("checkout", TimeUnit.MILLISECONDS.toNanos(100 + i));
+        }
+        first.increment("orders", 3);
+        second.increment("orders", 4);
+
+        try (SnapshotSender firstSender = new SnapshotSender(address);
+            SnapshotSender secondSender = new SnapshotSender(address)) {
+            firstSender.send(first.snapshot("jvm-1"));
+            secondSender.send(second.snapshot("jvm-2"));
+            awaitTrue(() -> collector.getSourceCount() == 2);
+        }
+
+        LatencyHistogram checkout = collector.getFleetHistograms().get("checkout");
+        assertEquals(200, checkout.getCount());
+        long median = checkout.getValueAtPercentile(50.0);
+        assertTrue(Math.abs(median - TimeUnit.MILLISECONDS.toNanos(100)) < TimeUnit.MILLISECONDS.toNanos(4));
+        assertEquals(7L, collector.getFleetCounters().get("orders"));
+    }
+
+    @Test
+    void testLatestSnapshotReplacesOlderOne() throws Exception {
+        MetricRegistry registry = new MetricRegistry();
+        try (SnapshotSender sender = new SnapshotSender(collector.getLocalAddress(),
+            () -> registry.snapshot("jvm-1"), 20, TimeUnit.MILLISECONDS)) {
+            registry.recordDuration("checkout", 1_000);
+            awaitTrue(() -> fleetCount("checkout") == 1);
+            registry.recordDuration("checkout", 2_000);
+            awaitTrue(() -> fleetCount("checkout") == 2);
+        }
+        assertEquals(1, collector.getSourceCount());
+    }
+
+    @Test
+    void testSenderReconnectsWhenCollectorStartsLater() throws Exception {
+        SocketAddress address = collector.getLocalAddress();
+        collector.close();
+
+        MetricRegistry registry = new MetricRegistry();
+        registry.recordDuration("checkout", 1_000);
+        try (SnapshotSender sender = new SnapshotSender(address,
+            () -> registry.snapshot("jvm-1"), 20, TimeUnit.MILLISECONDS)) {
+            Thread.sleep(200);
+            collector = new SnapshotCollector(address);
+            collector.start();
+            awaitTrue(() -> collector.getSourceCount() == 1);
+        }
+    }
+
+    @Test
+    void testDropsStaleSources() throws Exception {
+        MetricRegistry restarted = new MetricRegistry();
+        restarted.increment("orders", 3);
+        MetricRegistry running = new MetricRegistry();
+        running.increment("orders", 4);
+
+        try (SnapshotCollector expiring = new SnapshotCollector(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 200,
+            TimeUnit.MILLISECONDS)) {
+            expiring.accept(restarted.snapshot("jvm-1"));
+            expiring.accept(running.snapshot("jvm-2"));
+            assertEquals(7L, expiring.getFleetCounters().get("orders"));
+
+            Thread.sleep(400);
+            expiring.accept(running.snapshot("jvm-2"));
+
+            assertEquals(1, expiring.getSourceCount());
+            assertEquals(4L, expiring.getFleetCounters().get("orders"));
+        }
+    }
+
+    @Test
+    void testUnixDomainSocketRoundTrip() throws Exception {
+        assumeTrue(LocalSockets.isUnixDomainSupported());
+        Path socketFile = directory.resolve("collector.sock");
+        SocketAddress address = LocalSockets.unixDomain(socketFile);
+        MetricRegistry registry = new MetricRegistry();
+        registry.recordDuration("checkout", 1_000);
+
+        for (int run = 0; run < 2; run++) {
+            try (SnapshotCollector local = new SnapshotCollector(address);
+                SnapshotSender sender = new SnapshotSender(address)) {
+                local.start();
+                sender.send(registry.snapshot("jvm-1"));
+                awaitTrue(() -> local.getSourceCount() == 1);
+                assertEquals(1, local.getFleetHistograms().get("checkout").getCount());
+            }
+            assertFalse(Files.exists(socketFile));
+        }
+    }
+
+    private long fleetCount(String method) {
+        LatencyHistogram histogram = collector.getFleetHistograms().get(method);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ring_ding_dong.jobserv.monitoring.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ring_ding_dong.jobserv.annotation.MeasureTime;
+import com.ring_ding_dong.jobserv.core.MeasureTimeProcessor;
+import org.junit.jupiter.api.Test;
+
+class MetricsMeasurementListenerTest {
+
+    @Test
+    void testRecordsCallsBelowTheLoggingThreshold() throws Throwable {
+        MetricRegistry measured = new MetricRegistry();
+        MetricRegistry logged = new MetricRegistry();
+        MeasureTimeProcessor processor = new MeasureTimeProcessor(new MetricsTimeLogger(logged));
+        processor.addListener(new MetricsMeasurementListener(measured));
+
+        for (int i = 0; i < 3; i++) {
+            processor.process(Job.class.getMethod("run"), new Object[0], new Job());
+        }
+
+        assertEquals(3, measured.histogram("run").getCount());
+        assertEquals(0, logged.histogram("run").getCount());
+    }
+
+    public static class Job {
+
+        @MeasureTime(threshold = 60_000)
+        public void run() {
+        }
+    }
+}
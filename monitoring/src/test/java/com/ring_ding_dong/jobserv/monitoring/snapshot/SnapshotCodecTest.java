@@ -0,0 +1,68 @@
+package com.ring_ding_dong.jobserv.monitoring.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import com.ring_ding_dong.jobserv.monitoring.metrics.MetricRegistry;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class SnapshotCodecTest {
+
+    @Test
+    void testRoundTrip() {
+        MetricRegistry registry = new MetricRegistry();
+        registry.recordDuration("findOrder", 1_200_000);
+        registry.recordDuration("findOrder", 3_400_000);
+        registry.recordDuration("saveOrder", 15_000_000);
+        registry.increment("orders.saved", 7);
+        registry.increment("orders.rejected", -2);
+        MetricSnapshot snapshot = registry.snapshot("host-1:4242");
+
+        MetricSnapshot decoded = SnapshotCodec.decode(ByteBuffer.wrap(SnapshotCodec.encode(snapshot)));
+
+        assertEquals("host-1:4242", decoded.getSource());
+        assertEquals(snapshot.getTimestampMillis(), decoded.getTimestampMillis());
+        assertEquals(snapshot.getCounters(), decoded.getCounters());
+        assertEquals(snapshot.getHistograms().keySet(), decoded.getHistograms().keySet());
+        for (String method : snapshot.getHistograms().keySet()) {
+            LatencyHistogram expected = snapshot.getHistograms().get(method);
+            LatencyHistogram actual = decoded.getHistograms().get(method);
+            assertArrayEquals(expected.getBucketCounts(), actual.getBucketCounts());
+            assertEquals(expected.getSum(), actual.getSum());
+            assertEquals(expected.getMin(), actual.getMin());
+            assertEquals(expected.getMax(), actual.getMax());
+        }
+    }
+
+    @Test
+    void testEncodingIsCompact() {
+        MetricRegistry registry = new MetricRegistry();
+        for (int i = 0; i < 100_000; i++) {
+            registry.recordDuration("query", 1_000_000 + (i % 500) * 1_000);
+        }
+        byte[] payload = SnapshotCodec.encode(registry.snapshot("host"));
+        assertTrue(payload.length < 128, "payload was " + payload.length + " bytes");
+    }
+
+    @Test
+    void testFrameHasLengthPrefix() {
+        MetricSnapshot snapshot = new MetricRegistry().snapshot("host");
+        ByteBuffer frame = SnapshotCodec.encodeFrame(snapshot);
+        assertEquals(frame.remaining() - SnapshotCodec.FRAME_HEADER_SIZE, frame.getInt());
+    }
+
+    @Test
+    void testRejectsMalformedPayload() {
+        byte[] payload = SnapshotCodec.encode(new MetricRegistry().snapshot("host"));
+        assertThrows(IllegalArgumentException.class,
+            () -> SnapshotCodec.decode(ByteBuffer.wrap(Arrays.copyOf(payload, 6))));
+        payload[0] = 0;
+        assertThrows(IllegalArgumentException.class,
+            () -> SnapshotCodec.decode(ByteBuffer.wrap(payload)));
+    }
+}
@@ -0,0 +1,187 @@
+package com.ring_ding_dong.jobserv.performance.regression;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import com.ring_ding_dong.jobserv.performance.timeseries.QueryResult;
+import com.ring_ding_dong.jobserv.performance.timeseries.SeriesKey;
+import com.ring_ding_dong.jobserv.performance.timeseries.TimeSeriesQuery;
+import com.ring_ding_dong.jobserv.performance.timeseries.TimeSeriesStore;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A set of per-method latency distributions that live measurements are compared against by a
+ * {@link RegressionDetector}.
+ *
+ * <p>A baseline can be captured from a previous run (see {@link RegressionDetector#snapshot()} and
+ * {@link #fromStore(TimeSeriesStore, long, long)}), saved with {@link #save(Path)} and loaded again
+ * with {@link #load(Path)}, or derived from a JMH result file with {@link #loadJmhResult(Path)}.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BaselineSet {
+
+    private static final int MAGIC = 0x4A4F4242;
+    private static final int VERSION = 1;
+
+    private final Map<String, LatencyHistogram> histograms;
+
+    /**
+     * Constructs a new BaselineSet from the given histograms. The histograms are copied.
+     *
+     * @param histograms the baseline histograms, keyed by method name
+     */
+    public BaselineSet(Map<String, LatencyHistogram> histograms) {
+        Map<String, LatencyHistogram> copies = new TreeMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            copies.put(entry.getKey(), entry.getValue().copy());
+        }
+        this.histograms = Collections.unmodifiableMap(copies);
+    }
+
+    /**
+     * Builds a baseline from every method recorded in a time-series store over the given range.
+     *
+     * @param store      the store to read from
+     * @param fromMillis the start of the range, inclusive
+     * @param toMillis   the end of the range, exclusive
+     * @return the baseline
+     */
+    public static BaselineSet fromStore(TimeSeriesStore store, long fromMillis, long toMillis) {
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        for (SeriesKey key : store.getSeriesKeys()) {
+            if (!histograms.containsKey(key.getMethod())) {
+                QueryResult result = store.query(
+                    new TimeSeriesQuery(fromMillis, toMillis, key.getMethod()));
+                if (result.getCount() > 0) {
+                    histograms.put(key.getMethod(), result.getHistogram());
+                }
+            }
+        }
+        return new BaselineSet(histograms);
+    }
+
+    /**
+     * Loads a baseline previously written by {@link #save(Path)}.
+     *
+     * @param file the baseline file
+     * @return the baseline
+     * @throws IOException if the file cannot be read or is not a baseline file
+     */
+    public static BaselineSet load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a baseline file: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported baseline version: " + version);
+            }
+            int methodCount = in.readInt();
+            Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+            for (int m = 0; m < methodCount; m++) {
+                String method = in.readUTF();
+                long sum = in.readLong();
+                long min = in.readLong();
+                long max = in.readLong();
+                long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+                int nonEmpty = in.readUnsignedShort();
+                for (int i = 0; i < nonEmpty; i++) {
+                    int index = in.readUnsignedShort();
+                    if (index >= counts.length) {
+                        throw new IOException("Corrupt baseline file: bucket " + index);
+                    }
+                    counts[index] = in.readLong();
+                }
+                LatencyHistogram histogram = new LatencyHistogram();
+                histogram.add(counts, sum, min, max);
+                histograms.put(method, histogram);
+            }
+            return new BaselineSet(histograms);
+        }
+    }
+
+    /**
+     * Derives a baseline from a JMH result file written with {@code -rf json}.
+     *
+     * @param file the JMH JSON result file
+     * @return the baseline, keyed by the benchmark method's simple name
+     * @throws IOException if the file cannot be read or parsed
+     * @see JmhResultParser
+     */
+    public static BaselineSet loadJmhResult(Path file) throws IOException {
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        try {
+            return new BaselineSet(JmhResultParser.parse(json));
+        } catch (IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Invalid JMH result file: " + file, e);
+        }
+    }
+
+    /**
+     * Writes this baseline to a file, replacing any existing file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(histograms.size());
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeLong(histogram.getSum());
+                out.writeLong(histogram.getMin());
+                out.writeLong(histogram.getMax());
+                long[] counts = histogram.getBucketCounts();
+                int nonEmpty = 0;
+                for (long count : counts) {
+                    if (count != 0) {
+                        nonEmpty++;
+                    }
+                }
+                out.writeShort(nonEmpty);
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] != 0) {
+                        out.writeShort(i);
+                        out.writeLong(counts[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the baseline histogram of the given method.
+     *
+     * @param methodName the method name
+     * @return the histogram, or null if the baseline does not cover the method
+     */
+    public LatencyHistogram get(String methodName) {
+        return histograms.get(methodName);
+    }
+
+    /**
+     * Returns every baseline histogram.
+     *
+     * @return an unmodifiable map of method name to histogram
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+}
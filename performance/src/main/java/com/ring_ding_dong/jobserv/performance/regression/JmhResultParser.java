@@ -0,0 +1,316 @@
+package com.ring_ding_dong.jobserv.performance.regression;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns a JMH JSON result into baseline histograms, without depending on a JSON library.
+ *
+ * <p>For each benchmark with a time-per-operation unit ({@code ns/op}, {@code us/op},
+ * {@code ms/op} or {@code s/op}), the exact {@code rawDataHistogram} of sample-time runs is used
+ * when present. Otherwise a distribution is synthesised by interpolating between the reported
+ * {@code scorePercentiles}. Throughput benchmarks are skipped. Histograms are keyed by the
+ * benchmark method's simple name, and results of the same method with different parameters are
+ * merged.</p>
+ */
+final class JmhResultParser {
+
+    private static final int SYNTHETIC_SAMPLES = 1000;
+
+    private JmhResultParser() {
+        // Private constructor to prevent instantiation
+    }
+
+    static Map<String, LatencyHistogram> parse(String json) {
+        Object root = new JsonReader(json).readDocument();
+        if (!(root instanceof List)) {
+            throw new IllegalArgumentException("Expected an array of benchmark results");
+        }
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        for (Object element : (List<?>) root) {
+            Map<?, ?> result = asMap(element);
+            Map<?, ?> metric = asMap(result.get("primaryMetric"));
+            long nanosPerUnit = nanosPerUnit(String.valueOf(metric.get("scoreUnit")));
+            if (nanosPerUnit <= 0) {
+                continue;
+            }
+            String benchmark = String.valueOf(result.get("benchmark"));
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            LatencyHistogram histogram = histograms.computeIfAbsent(method,
+                name -> new LatencyHistogram());
+            if (metric.get("rawDataHistogram") instanceof List) {
+                addRawHistogram(histogram, (List<?>) metric.get("rawDataHistogram"), nanosPerUnit);
+            } else {
+                addPercentiles(histogram, asMap(metric.get("scorePercentiles")), nanosPerUnit);
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * Returns the number of nanoseconds in the time unit of a JMH score unit, or 0 for units that
+     * are not a time per operation.
+     */
+    private static long nanosPerUnit(String scoreUnit) {
+        if (!scoreUnit.endsWith("/op")) {
+            return 0;
+        }
+        switch (scoreUnit.substring(0, scoreUnit.length() - 3)) {
+            case "ns":
+                return 1;
+            case "us":
+                return TimeUnit.MICROSECONDS.toNanos(1);
+            case "ms":
+                return TimeUnit.MILLISECONDS.toNanos(1);
+            case "s":
+                return TimeUnit.SECONDS.toNanos(1);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Adds a {@code rawDataHistogram}: forks, each holding iterations, each holding
+     * {@code [value, count]} pairs.
+     */
+    private static void addRawHistogram(LatencyHistogram histogram, List<?> forks,
+        long nanosPerUnit) {
+        for (Object fork : forks) {
+            for (Object iteration : (List<?>) fork) {
+                for (Object pair : (List<?>) iteration) {
+                    List<?> valueAndCount = (List<?>) pair;
+                    double value = ((Number) valueAndCount.get(0)).doubleValue();
+                    long count = ((Number) valueAndCount.get(1)).longValue();
+                    histogram.record(Math.round(value * nanosPerUnit), count);
+                }
+            }
+        }
+    }
+
+    private static void addPercentiles(LatencyHistogram histogram, Map<?, ?> percentiles,
+        long nanosPerUnit) {
+        TreeMap<Double, Double> points = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : percentiles.entrySet()) {
+            // JMH writes the string "NaN" for undefined percentiles
+            if (!(entry.getValue() instanceof Number)) {
+                continue;
+            }
+            points.put(Double.parseDouble(String.valueOf(entry.getKey())),
+                ((Number) entry.getValue()).doubleValue());
+        }
+        if (points.isEmpty()) {
+            throw new IllegalArgumentException("Benchmark result without percentiles");
+        }
+        for (int i = 0; i < SYNTHETIC_SAMPLES; i++) {
+            double percentile = (i + 0.5) * 100.0 / SYNTHETIC_SAMPLES;
+            histogram.record(Math.round(interpolate(points, percentile) * nanosPerUnit));
+        }
+    }
+
+    private static double interpolate(TreeMap<Double, Double> points, double percentile) {
+        Map.Entry<Double, Double> lower = points.floorEntry(percentile);
+        Map.Entry<Double, Double> upper = points.ceilingEntry(percentile);
+        if (lower == null) {
+            return upper.getValue();
+        }
+        if (upper == null || upper.getKey().equals(lower.getKey())) {
+            return lower.getValue();
+        }
+        double fraction = (percentile - lower.getKey()) / (upper.getKey() - lower.getKey());
+        return lower.getValue() + fraction * (upper.getValue() - lower.getValue());
+    }
+
+    private static Map<?, ?> asMap(Object value) {
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Expected a JSON object but found " + value);
+        }
+        return (Map<?, ?>) value;
+    }
+
+    /**
+     * A minimal JSON reader producing maps, lists, strings, doubles, booleans and nulls.
+     */
+    private static final class JsonReader {
+
+        private final String text;
+        private int position;
+
+        JsonReader(String text) {
+            this.text = text;
+        }
+
+        Object readDocument() {
+            Object value = readValue();
+            skipWhitespace();
+            if (position != text.length()) {
+                throw error("Unexpected trailing content");
+            }
+            return value;
+        }
+
+        private Object readValue() {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            char c = text.charAt(position);
+            switch (c) {
+                case '{':
+                    return readObject();
+                case '[':
+                    return readArray();
+                case '"':
+                    return readString();
+                case 't':
+                    expect("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    expect("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    expect("null");
+                    return null;
+                default:
+                    return readNumber();
+            }
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            position++;
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = readString();
+                skipWhitespace();
+                expect(":");
+                object.put(key, readValue());
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    return object;
+                }
+                if (c != ',') {
+                    throw error("Expected ',' or '}'");
+                }
+            }
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+                return array;
+            }
+            while (true) {
+                array.add(readValue());
+                skipWhitespace();
+                char c = next();
+                if (c == ']') {
+                    return array;
+                }
+                if (c != ',') {
+                    throw error("Expected ',' or ']'");
+                }
+            }
+        }
+
+        private String readString() {
+            if (next() != '"') {
+                throw error("Expected a string");
+            }
+            StringBuilder builder = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return builder.toString();
+                }
+                if (c != '\\') {
+                    builder.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        if (position + 4 > text.length()) {
+                            throw error("Truncated unicode escape");
+                        }
+                        builder.append((char) Integer.parseInt(
+                            text.substring(position, position + 4), 16));
+                        position += 4;
+                        break;
+                    default:
+                        builder.append(escaped);
+                }
+            }
+        }
+
+        private Object readNumber() {
+            int start = position;
+            while (position < text.length()
+                && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+                position++;
+            }
+            String number = text.substring(start, position);
+            try {
+                return Double.parseDouble(number);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + number + "'");
+            }
+        }
+
+        private void expect(String literal) {
+            if (!text.startsWith(literal, position)) {
+                throw error("Expected '" + literal + "'");
+            }
+            position += literal.length();
+        }
+
+        private char peek() {
+            return position < text.length() ? text.charAt(position) : '\0';
+        }
+
+        private char next() {
+            if (position >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            return text.charAt(position++);
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at offset " + position);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.ring_ding_dong.jobserv.performance.regression;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import com.ring_ding_dong.jobserv.common.internal.CounterArray;
+import com.ring_ding_dong.jobserv.core.MeasureTimeProcessor;
+import com.ring_ding_dong.jobserv.core.MeasurementListener;
+import com.ring_ding_dong.jobserv.core.MeasurementPlan;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Continuously compares the live latency distribution of every method measured by a
+ * {@link MeasureTimeProcessor} against a {@link BaselineSet}, and notifies a
+ * {@link RegressionListener} when a method regresses beyond the tolerance of its
+ * {@link RegressionPolicy}, and again when it recovers.
+ *
+ * <p>Live counts are kept per {@link MeasurementPlan}, so methods of different classes that are
+ * logged under the same name are judged separately. Each is compared against the baseline of its
+ * method name, and the methods reported by {@link #getRegressedMethods()} and captured by
+ * {@link #snapshot()} are identified by that name.</p>
+ *
+ * <p>Recording a measurement costs one bucket increment and one counter increment. The
+ * percentile shift and the one-sided Kolmogorov-Smirnov distance are computed from the bucket
+ * counts every {@link RegressionPolicy#getEvaluationInterval()} measurements, by whichever thread
+ * crosses the interval; other threads never wait for a comparison in progress. Halving the counts
+ * at the end of a window is likewise done by a thread that finds the comparison lock free; if none
+ * does at the window boundary, the halving is applied by the next thread that gets the lock.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * BaselineSet baseline = BaselineSet.load(Paths.get("baseline.bin"));
+ * RegressionDetector detector = new RegressionDetector(baseline, RegressionPolicy.defaults(),
+ *     RegressionListener.logging(logger));
+ * processor.addListener(detector);
+ * // at shutdown, keep this run's distributions as the next baseline
+ * detector.snapshot().save(Paths.get("baseline.bin"));
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RegressionDetector implements MeasurementListener {
+
+    private final BaselineSet baseline;
+    private final RegressionPolicy policy;
+    private final RegressionListener listener;
+    private final ConcurrentHashMap<String, MethodState> states;
+
+    /**
+     * Constructs a new RegressionDetector.
+     *
+     * @param baseline the distributions to compare against
+     * @param policy   the regression criteria
+     * @param listener the listener notified of regressions and recoveries
+     */
+    public RegressionDetector(BaselineSet baseline, RegressionPolicy policy,
+        RegressionListener listener) {
+        this.baseline = baseline;
+        this.policy = policy;
+        this.listener = listener;
+        this.states = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Records a measurement that arrives without a plan, keyed by its method name.
+     */
+    @Override
+    public void onMeasurement(String methodName, long durationNanos, Throwable failure) {
+        record(methodName, methodName, durationNanos);
+    }
+
+    @Override
+    public void onMeasurement(MeasurementPlan plan, long durationNanos, Throwable failure) {
+        record(plan.getId(), plan.getMethodName(), durationNanos);
+    }
+
+    private void record(String key, String methodName, long durationNanos) {
+        MethodState state = states.get(key);
+        if (state == null) {
+            state = states.computeIfAbsent(key,
+                k -> new MethodState(methodName, baseline.get(methodName),
+                    policy.getPercentile()));
+        }
+        state.counts.increment(LatencyHistogram.bucketIndex(durationNanos));
+        long seen = state.seen.incrementAndGet();
+        boolean evaluate = seen % policy.getEvaluationInterval() == 0;
+        long window = seen / policy.getWindowSize();
+        if ((evaluate || window > state.decayedWindows) && state.evaluationLock.tryLock()) {
+            try {
+                if (evaluate) {
+                    evaluate(state);
+                }
+                state.decayTo(window);
+            } finally {
+                state.evaluationLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns whether a method logged under the given name is currently considered regressed.
+     *
+     * @param methodName the method name
+     * @return true if a method of that name regressed and has not recovered since
+     */
+    public boolean isRegressed(String methodName) {
+        for (MethodState state : states.values()) {
+            if (state.regressed && state.methodName.equals(methodName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns every method currently considered regressed.
+     *
+     * @return the names of the regressed methods, sorted
+     */
+    public Set<String> getRegressedMethods() {
+        Set<String> regressed = new TreeSet<>();
+        for (MethodState state : states.values()) {
+            if (state.regressed) {
+                regressed.add(state.methodName);
+            }
+        }
+        return regressed;
+    }
+
+    /**
+     * Captures the current live distributions of every method, for example to be saved as the
+     * baseline of the next run. Values are represented by the midpoints of their buckets, and the
+     * distributions of methods logged under the same name are merged.
+     *
+     * @return the live distributions as a baseline
+     */
+    public BaselineSet snapshot() {
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        for (MethodState state : states.values()) {
+            LatencyHistogram histogram = histograms.get(state.methodName);
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+            }
+            long[] counts = state.snapshotCounts();
+            for (int i = 0; i < counts.length; i++) {
+                histogram.record(LatencyHistogram.bucketMidpoint(i), counts[i]);
+            }
+            if (histogram.getCount() > 0) {
+                histograms.put(state.methodName, histogram);
+            }
+        }
+        return new BaselineSet(histograms);
+    }
+
+    private void evaluate(MethodState state) {
+        if (state.baselineCdf == null) {
+            return;
+        }
+        long[] live = state.snapshotCounts();
+        long total = 0;
+        for (long count : live) {
+            total += count;
+        }
+        if (total < policy.getMinSamples()) {
+            return;
+        }
+
+        long liveValue = LatencyHistogram.valueAtPercentile(live, policy.getPercentile(), 0,
+            Long.MAX_VALUE);
+        double distance = 0;
+        long cumulative = 0;
+        for (int i = 0; i < live.length; i++) {
+            cumulative += live[i];
+            distance = Math.max(distance, state.baselineCdf[i] - (double) cumulative / total);
+        }
+
+        boolean shifted = liveValue > state.baselineValue * (1.0 + policy.getTolerance());
+        boolean regressed = shifted || distance > policy.getMaxDistance();
+        if (regressed != state.regressed) {
+            state.regressed = regressed;
+            listener.onRegressionChange(new RegressionEvent(state.methodName, regressed,
+                policy.getPercentile(), state.baselineValue, liveValue, distance, total));
+        }
+    }
+
+    /**
+     * Live counts and comparison state of one method.
+     */
+    private static final class MethodState {
+
+        final String methodName;
+        final double[] baselineCdf;
+        final long baselineValue;
+        final CounterArray counts;
+        final AtomicLong seen;
+        final ReentrantLock evaluationLock;
+        volatile boolean regressed;
+        // Number of windows whose counts have been halved; written under evaluationLock
+        volatile long decayedWindows;
+
+        MethodState(String methodName, LatencyHistogram baseline, double percentile) {
+            this.methodName = methodName;
+            this.counts = new CounterArray(LatencyHistogram.BUCKET_COUNT);
+            this.seen = new AtomicLong();
+            this.evaluationLock = new ReentrantLock();
+            if (baseline == null || baseline.getCount() == 0) {
+                this.baselineCdf = null;
+                this.baselineValue = 0;
+                return;
+            }
+            long[] baselineCounts = baseline.getBucketCounts();
+            double total = baseline.getCount();
+            this.baselineCdf = new double[baselineCounts.length];
+            long cumulative = 0;
+            for (int i = 0; i < baselineCounts.length; i++) {
+                cumulative += baselineCounts[i];
+                baselineCdf[i] = cumulative / total;
+            }
+            this.baselineValue = LatencyHistogram.valueAtPercentile(baselineCounts, percentile, 0,
+                Long.MAX_VALUE);
+        }
+
+        long[] snapshotCounts() {
+            return counts.snapshot();
+        }
+
+        /**
+         * Halves the counts once for every completed window not halved yet. Must be called with
+         * the evaluation lock held.
+         */
+        void decayTo(long window) {
+            long pending = Math.min(window - decayedWindows, Long.SIZE - 1);
+            if (pending <= 0) {
+                return;
+            }
+            for (int i = 0; i < counts.length(); i++) {
+                long count = counts.get(i);
+                if (count > 0) {
+                    counts.add(i, -(count - (count >> pending)));
+                }
+            }
+            decayedWindows = window;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ring_ding_dong.jobserv.performance.regression;
+
+/**
+ * Describes a method whose live latency distribution started or stopped deviating from its
+ * baseline.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RegressionEvent {
+
+    private final String methodName;
+    private final boolean regressed;
+    private final double percentile;
+    private final long baselineValueNanos;
+    private final long liveValueNanos;
+    private final double distance;
+    private final long liveSamples;
+
+    RegressionEvent(String methodName, boolean regressed, double percentile,
+        long baselineValueNanos, long liveValueNanos, double distance, long liveSamples) {
+        this.methodName = methodName;
+        this.regressed = regressed;
+        this.percentile = percentile;
+        this.baselineValueNanos = baselineValueNanos;
+        this.liveValueNanos = liveValueNanos;
+        this.distance = distance;
+        this.liveSamples = liveSamples;
+    }
+
+    /**
+     * Returns the name of the method.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Returns whether the method regressed, as opposed to having recovered.
+     *
+     * @return true for a regression, false for a recovery
+     */
+    public boolean isRegressed() {
+        return regressed;
+    }
+
+    /**
+     * Returns the compared percentile.
+     *
+     * @return the percentile, between 0 and 100
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the baseline value at the compared percentile.
+     *
+     * @return the baseline value in nanoseconds
+     */
+    public long getBaselineValueNanos() {
+        return baselineValueNanos;
+    }
+
+    /**
+     * Returns the live value at the compared percentile.
+     *
+     * @return the live value in nanoseconds
+     */
+    public long getLiveValueNanos() {
+        return liveValueNanos;
+    }
+
+    /**
+     * Returns the relative change of the compared percentile.
+     *
+     * @return the live value divided by the baseline value, minus one
+     */
+    public double getRelativeChange() {
+        return baselineValueNanos == 0 ? 0 : (double) liveValueNanos / baselineValueNanos - 1;
+    }
+
+    /**
+     * Returns the one-sided Kolmogorov-Smirnov distance between the live and baseline
+     * distributions.
+     *
+     * @return the distance, between 0 and 1
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Returns the (decayed) number of live measurements the comparison was based on.
+     *
+     * @return the live sample count
+     */
+    public long getLiveSamples() {
+        return liveSamples;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: p%s %.3f ms -> %.3f ms (%+.1f%%), distance %.3f over %d samples",
+            methodName, regressed ? "regressed" : "recovered", percentile,
+            baselineValueNanos / 1e6, liveValueNanos / 1e6, getRelativeChange() * 100, distance,
+            liveSamples);
+    }
+}
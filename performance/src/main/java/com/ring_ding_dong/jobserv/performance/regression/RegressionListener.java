@@ -0,0 +1,42 @@
+package com.ring_ding_dong.jobserv.performance.regression;
+
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+
+/**
+ * Receives the regressions and recoveries detected by a {@link RegressionDetector}. Callbacks run
+ * on the application thread whose measurement triggered the comparison, so they should return
+ * quickly.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface RegressionListener {
+
+    /**
+     * Called when a method starts regressing, and again when it recovers.
+     *
+     * @param event the regression or recovery
+     */
+    void onRegressionChange(RegressionEvent event);
+
+    /**
+     * Returns a listener that writes every event to the given logger, regressions at
+     * {@link LogLevel#WARN} and recoveries at {@link LogLevel#INFO}.
+     *
+     * @param logger the logger to write to
+     * @return the logging listener
+     */
+    static RegressionListener logging(TimeLogger logger) {
+        return event -> {
+            try {
+                logger.log(event.isRegressed() ? LogLevel.WARN : LogLevel.INFO,
+                    "Latency regression check: %s", event);
+            } catch (Exception e) {
+                System.err.println("Error logging regression event: " + e.getMessage());
+            }
+        };
+    }
+}
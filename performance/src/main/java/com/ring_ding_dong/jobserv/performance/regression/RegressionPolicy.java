@@ -0,0 +1,129 @@
+package com.ring_ding_dong.jobserv.performance.regression;
+
+/**
+ * Configures when a {@link RegressionDetector} considers a method to have regressed.
+ *
+ * <p>A method regresses when, after at least {@code minSamples} live measurements, either its
+ * live value at {@code percentile} exceeds the baseline value by more than {@code tolerance}
+ * (for example 0.2 for 20% slower), or the one-sided Kolmogorov-Smirnov distance between the
+ * live and baseline distributions exceeds {@code maxDistance}. The distance is the largest amount
+ * by which the live cumulative distribution falls below the baseline one, so only slowdowns count.
+ * </p>
+ *
+ * <p>Live distributions decay: every {@code windowSize} measurements all live counts are halved,
+ * so recent behaviour dominates and a method can recover after a transient slowdown. The
+ * comparison itself runs every {@code evaluationInterval} measurements.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RegressionPolicy {
+
+    private final double percentile;
+    private final double tolerance;
+    private final double maxDistance;
+    private final long minSamples;
+    private final long evaluationInterval;
+    private final long windowSize;
+
+    /**
+     * Constructs a new RegressionPolicy.
+     *
+     * @param percentile         the percentile compared against the baseline, between 0 and 100
+     * @param tolerance          the allowed relative increase of that percentile
+     * @param maxDistance        the allowed one-sided Kolmogorov-Smirnov distance, between 0 and
+     *                           1; 1 disables the distance test
+     * @param minSamples         the number of live measurements needed before a method is judged
+     * @param evaluationInterval the number of measurements between two comparisons
+     * @param windowSize         the number of measurements after which live counts are halved;
+     *                           must be at least {@code minSamples}
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public RegressionPolicy(double percentile, double tolerance, double maxDistance,
+        long minSamples, long evaluationInterval, long windowSize) {
+        if (percentile <= 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile out of range: " + percentile);
+        }
+        if (tolerance < 0.0) {
+            throw new IllegalArgumentException("Tolerance must not be negative");
+        }
+        if (maxDistance <= 0.0 || maxDistance > 1.0) {
+            throw new IllegalArgumentException("Distance out of range: " + maxDistance);
+        }
+        if (minSamples <= 0 || evaluationInterval <= 0 || windowSize < minSamples) {
+            throw new IllegalArgumentException(
+                "Sample counts must be positive and the window at least minSamples");
+        }
+        this.percentile = percentile;
+        this.tolerance = tolerance;
+        this.maxDistance = maxDistance;
+        this.minSamples = minSamples;
+        this.evaluationInterval = evaluationInterval;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns the default policy: p99 may grow by 20%, the distance may reach 0.15, and methods
+     * are judged after 500 measurements, every 250 measurements, over a window of 10,000.
+     *
+     * @return the default policy
+     */
+    public static RegressionPolicy defaults() {
+        return new RegressionPolicy(99.0, 0.2, 0.15, 500, 250, 10_000);
+    }
+
+    /**
+     * Returns the percentile compared against the baseline.
+     *
+     * @return the percentile, between 0 and 100
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the allowed relative increase of the compared percentile.
+     *
+     * @return the tolerance, for example 0.2 for 20%
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Returns the allowed one-sided Kolmogorov-Smirnov distance.
+     *
+     * @return the distance, between 0 and 1
+     */
+    public double getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * Returns the number of live measurements needed before a method is judged.
+     *
+     * @return the minimum sample count
+     */
+    public long getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Returns the number of measurements between two comparisons.
+     *
+     * @return the evaluation interval
+     */
+    public long getEvaluationInterval() {
+        return evaluationInterval;
+    }
+
+    /**
+     * Returns the number of measurements after which live counts are halved.
+     *
+     * @return the window size
+     */
+    public long getWindowSize() {
+        return windowSize;
+    }
+}
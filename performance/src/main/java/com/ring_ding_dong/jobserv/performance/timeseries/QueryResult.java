@@ -0,0 +1,72 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+
+/**
+ * The merged distribution returned by {@link TimeSeriesStore#query(TimeSeriesQuery)}.
+ *
+ * <p>Time buckets are merged whole, so at coarse resolutions the result may include values
+ * recorded shortly before the start or after the end of the requested range.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class QueryResult {
+
+    private final LatencyHistogram histogram;
+    private final long resolutionMillis;
+    private final int seriesCount;
+
+    QueryResult(LatencyHistogram histogram, long resolutionMillis, int seriesCount) {
+        this.histogram = histogram;
+        this.resolutionMillis = resolutionMillis;
+        this.seriesCount = seriesCount;
+    }
+
+    /**
+     * Returns the merged histogram of all selected series.
+     *
+     * @return the merged histogram
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Returns the resolution of the rollup the result was read from.
+     *
+     * @return the resolution in milliseconds
+     */
+    public long getResolutionMillis() {
+        return resolutionMillis;
+    }
+
+    /**
+     * Returns the number of series that contributed values to the result.
+     *
+     * @return the number of contributing series
+     */
+    public int getSeriesCount() {
+        return seriesCount;
+    }
+
+    /**
+     * Returns the number of merged measurements.
+     *
+     * @return the measurement count
+     */
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    /**
+     * Returns the merged duration at the given percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration in nanoseconds
+     */
+    public long getValueAtPercentile(double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+}
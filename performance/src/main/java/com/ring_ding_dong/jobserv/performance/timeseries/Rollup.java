@@ -0,0 +1,90 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes one resolution of a {@link TimeSeriesStore}: the width of its time buckets and how long
+ * they are retained.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Rollup {
+
+    private final long resolutionMillis;
+    private final long retentionMillis;
+
+    /**
+     * Constructs a new Rollup.
+     *
+     * @param resolution the width of one time bucket
+     * @param retention  how long buckets are retained; must be a multiple of the resolution
+     * @param unit       the time unit of both values
+     * @throws IllegalArgumentException if the resolution is not positive, or if the retention is
+     *                                  not a positive multiple of the resolution
+     */
+    public Rollup(long resolution, long retention, TimeUnit unit) {
+        this.resolutionMillis = unit.toMillis(resolution);
+        this.retentionMillis = unit.toMillis(retention);
+        if (resolutionMillis <= 0) {
+            throw new IllegalArgumentException("Resolution must be at least one millisecond");
+        }
+        if (retentionMillis < resolutionMillis || retentionMillis % resolutionMillis != 0) {
+            throw new IllegalArgumentException(
+                "Retention must be a positive multiple of the resolution");
+        }
+    }
+
+    /**
+     * Returns the default rollups: 10 seconds kept for 6 hours, 1 minute kept for 2 days and 1
+     * hour kept for 30 days.
+     *
+     * @return the default rollups, finest first
+     */
+    public static List<Rollup> defaults() {
+        return Collections.unmodifiableList(Arrays.asList(
+            new Rollup(10, TimeUnit.HOURS.toSeconds(6), TimeUnit.SECONDS),
+            new Rollup(1, TimeUnit.DAYS.toMinutes(2), TimeUnit.MINUTES),
+            new Rollup(1, TimeUnit.DAYS.toHours(30), TimeUnit.HOURS)));
+    }
+
+    /**
+     * Returns the width of one time bucket.
+     *
+     * @return the resolution in milliseconds
+     */
+    public long getResolutionMillis() {
+        return resolutionMillis;
+    }
+
+    /**
+     * Returns how long time buckets are retained.
+     *
+     * @return the retention in milliseconds
+     */
+    public long getRetentionMillis() {
+        return retentionMillis;
+    }
+
+    /**
+     * Returns the number of time buckets needed to cover the retention.
+     *
+     * @return the number of slots
+     */
+    int getSlotCount() {
+        long slots = retentionMillis / resolutionMillis;
+        if (slots > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many slots for rollup " + this);
+        }
+        return (int) slots;
+    }
+
+    @Override
+    public String toString() {
+        return "Rollup[" + resolutionMillis + "ms for " + retentionMillis + "ms]";
+    }
+}
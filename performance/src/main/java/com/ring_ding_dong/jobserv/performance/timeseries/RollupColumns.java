@@ -0,0 +1,142 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.util.Arrays;
+
+/**
+ * The time buckets of one series at one {@link Rollup}, kept as a ring of slots in columnar
+ * primitive arrays. Each slot holds the count, sum, minimum and maximum of the values recorded in
+ * its time bucket, plus a {@link SparseRow} of its non-empty {@link LatencyHistogram} buckets. Rows
+ * are created on first use and reused when their slot is.
+ *
+ * <p>A slot is identified by its slot number, the bucket start time divided by the resolution. A
+ * slot is reused when a newer slot number maps to the same ring position; values for slots that
+ * have already been overwritten are older than the retention and are dropped.</p>
+ */
+final class RollupColumns {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long resolutionMillis;
+    private final int slotCount;
+    private final long[] slotNumbers;
+    private final long[] counts;
+    private final long[] sums;
+    private final long[] mins;
+    private final long[] maxs;
+    private final SparseRow[] rows;
+
+    RollupColumns(Rollup rollup) {
+        this.resolutionMillis = rollup.getResolutionMillis();
+        this.slotCount = rollup.getSlotCount();
+        this.slotNumbers = new long[slotCount];
+        this.counts = new long[slotCount];
+        this.sums = new long[slotCount];
+        this.mins = new long[slotCount];
+        this.maxs = new long[slotCount];
+        this.rows = new SparseRow[slotCount];
+        Arrays.fill(slotNumbers, EMPTY);
+    }
+
+    synchronized void record(long timestampMillis, long value) {
+        int slot = claim(Math.floorDiv(timestampMillis, resolutionMillis));
+        if (slot < 0) {
+            return;
+        }
+        long clamped = Math.max(0, value);
+        counts[slot]++;
+        sums[slot] += clamped;
+        mins[slot] = Math.min(mins[slot], clamped);
+        maxs[slot] = Math.max(maxs[slot], clamped);
+        rows[slot].add(LatencyHistogram.bucketIndex(clamped), 1);
+    }
+
+    synchronized void add(long timestampMillis, long[] bucketCounts, long sum, long min,
+        long max) {
+        int slot = claim(Math.floorDiv(timestampMillis, resolutionMillis));
+        if (slot < 0) {
+            return;
+        }
+        long added = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            if (bucketCounts[i] != 0) {
+                rows[slot].add(i, bucketCounts[i]);
+                added += bucketCounts[i];
+            }
+        }
+        if (added == 0) {
+            return;
+        }
+        counts[slot] += added;
+        sums[slot] += sum;
+        mins[slot] = Math.min(mins[slot], min);
+        maxs[slot] = Math.max(maxs[slot], max);
+    }
+
+    /**
+     * Adds every slot whose time bucket overlaps {@code [fromMillis, toMillis)} to the given
+     * accumulator.
+     *
+     * @return true if at least one value was added
+     */
+    synchronized boolean mergeInto(long fromMillis, long toMillis, Accumulator accumulator) {
+        long first = Math.floorDiv(fromMillis, resolutionMillis);
+        long last = Math.floorDiv(toMillis - 1, resolutionMillis);
+        boolean found = false;
+        for (int slot = 0; slot < slotCount; slot++) {
+            long number = slotNumbers[slot];
+            if (number == EMPTY || number < first || number > last || counts[slot] == 0) {
+                continue;
+            }
+            rows[slot].addTo(accumulator.bucketCounts);
+            accumulator.sum += sums[slot];
+            accumulator.min = Math.min(accumulator.min, mins[slot]);
+            accumulator.max = Math.max(accumulator.max, maxs[slot]);
+            found = true;
+        }
+        return found;
+    }
+
+    /**
+     * Returns the ring position for the given slot number, resetting it if it still holds an
+     * older slot, or -1 if the position already holds a newer slot.
+     */
+    private int claim(long slotNumber) {
+        int slot = (int) Math.floorMod(slotNumber, (long) slotCount);
+        long held = slotNumbers[slot];
+        if (held == slotNumber) {
+            return slot;
+        }
+        if (held != EMPTY && held > slotNumber) {
+            return -1;
+        }
+        slotNumbers[slot] = slotNumber;
+        counts[slot] = 0;
+        sums[slot] = 0;
+        mins[slot] = Long.MAX_VALUE;
+        maxs[slot] = Long.MIN_VALUE;
+        if (rows[slot] == null) {
+            rows[slot] = new SparseRow();
+        } else {
+            rows[slot].clear();
+        }
+        return slot;
+    }
+
+    /**
+     * Mutable sum of the slots merged by a query.
+     */
+    static final class Accumulator {
+
+        final long[] bucketCounts = new long[LatencyHistogram.BUCKET_COUNT];
+        long sum;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        LatencyHistogram toHistogram() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.add(bucketCounts, sum, min, max);
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.core.MeasurementListener;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link MeasurementListener} that rolls every measured execution time up into a
+ * {@link TimeSeriesStore}, one series per method name. The listener is called for every call,
+ * whatever the method's logging threshold, with the duration in nanoseconds, so percentiles
+ * queried from the store cover all calls at full resolution.
+ *
+ * <p>The listener does not flush or close the store, which may be shared; its owner does.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * TimeSeriesStore store = new TimeSeriesStore(Paths.get("metrics"), Rollup.defaults());
+ * factory.getProcessor().addListener(new RollupMeasurementListener(store, "eu-west"));
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RollupMeasurementListener implements MeasurementListener {
+
+    private final TimeSeriesStore store;
+    private final String[] tags;
+    private final ConcurrentHashMap<String, TimeSeries> seriesByMethod;
+
+    /**
+     * Constructs a new RollupMeasurementListener.
+     *
+     * @param store the store to record into
+     * @param tags  the tags added to every series recorded by this listener
+     */
+    public RollupMeasurementListener(TimeSeriesStore store, String... tags) {
+        this.store = store;
+        this.tags = tags.clone();
+        this.seriesByMethod = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void onMeasurement(String methodName, long durationNanos, Throwable failure) {
+        TimeSeries series = seriesByMethod.get(methodName);
+        if (series == null) {
+            series = seriesByMethod.computeIfAbsent(methodName, name -> store.series(name, tags));
+        }
+        series.record(System.currentTimeMillis(), durationNanos);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.LoggingException;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link TimeLogger} that rolls every logged execution time up into a {@link TimeSeriesStore}
+ * instead of keeping raw events. Free-form log messages are ignored.
+ *
+ * <p>Rollups fed through a logger are incomplete: calls below the method's threshold never reach
+ * it, and the rest arrive in whole units of the method's time unit. Prefer a
+ * {@link RollupMeasurementListener}, which receives every call in nanoseconds; this logger suits
+ * setups that can only plug in a {@link TimeLogger}.</p>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RollupTimeLogger implements TimeLogger {
+
+    private final TimeSeriesStore store;
+    private final String[] tags;
+    private final ConcurrentHashMap<String, TimeSeries> seriesByMethod;
+
+    /**
+     * Constructs a new RollupTimeLogger.
+     *
+     * @param store the store to record into
+     * @param tags  the tags added to every series recorded by this logger
+     */
+    public RollupTimeLogger(TimeSeriesStore store, String... tags) {
+        this.store = store;
+        this.tags = tags.clone();
+        this.seriesByMethod = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void log(LogLevel level, String message, Object... args) {
+        // Only execution times are rolled up
+    }
+
+    @Override
+    public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+        double threshold) {
+        TimeSeries series = seriesByMethod.get(methodName);
+        if (series == null) {
+            series = seriesByMethod.computeIfAbsent(methodName, name -> store.series(name, tags));
+        }
+        series.record(System.currentTimeMillis(), timeUnit.toNanos(duration));
+    }
+
+    /**
+     * Flushes the store. The store itself stays open, since it may be shared by other loggers.
+     *
+     * @throws LoggingException if the store cannot be flushed
+     */
+    @Override
+    public void close() throws LoggingException {
+        try {
+            store.flush();
+        } catch (IOException e) {
+            throw new LoggingException("Error flushing time-series store", e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Persists the values of a {@link TimeSeriesStore} to append-only segment files. Every flush
+ * appends one record per series and finest time bucket holding the values recorded since the
+ * previous flush; replaying all records therefore rebuilds every rollup. Records are grouped into
+ * files by the hour of their time bucket, so retention is enforced by deleting whole files.
+ *
+ * <p>Each record is length-prefixed. A torn record at the end of a file, left behind by a crash
+ * during a flush, is cut off on load, so that records appended to the same file later stay
+ * readable.</p>
+ */
+final class SegmentLog {
+
+    static final long SEGMENT_MILLIS = 60 * 60 * 1000L;
+
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".tsl";
+
+    private final Path directory;
+
+    SegmentLog(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Receives the records read by {@link #load(RecordConsumer)}.
+     */
+    interface RecordConsumer {
+
+        void accept(SeriesKey key, long slotStartMillis, long[] bucketCounts, long sum, long min,
+            long max);
+    }
+
+    /**
+     * Appends one record per series and time bucket. Every delta that has been written is removed
+     * from the given maps, so that after a failure they hold exactly the deltas still to be
+     * written. A segment file whose write fails is cut back to its previous length.
+     */
+    void append(Map<SeriesKey, Map<Long, SlotDelta>> deltas) throws IOException {
+        Map<Long, ByteArrayOutputStream> segments = new TreeMap<>();
+        for (Map.Entry<SeriesKey, Map<Long, SlotDelta>> series : deltas.entrySet()) {
+            for (Map.Entry<Long, SlotDelta> slot : series.getValue().entrySet()) {
+                long segment = Math.floorDiv(slot.getKey(), SEGMENT_MILLIS);
+                ByteArrayOutputStream buffer = segments.computeIfAbsent(segment,
+                    s -> new ByteArrayOutputStream());
+                writeRecord(new DataOutputStream(buffer), series.getKey(), slot.getKey(),
+                    slot.getValue());
+            }
+        }
+        for (Map.Entry<Long, ByteArrayOutputStream> segment : segments.entrySet()) {
+            try (FileChannel channel = FileChannel.open(segmentFile(segment.getKey()),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long previousLength = channel.size();
+                try {
+                    ByteBuffer bytes = ByteBuffer.wrap(segment.getValue().toByteArray());
+                    channel.position(previousLength);
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                } catch (IOException e) {
+                    try {
+                        channel.truncate(previousLength);
+                    } catch (IOException truncateFailure) {
+                        e.addSuppressed(truncateFailure);
+                    }
+                    throw e;
+                }
+            }
+            long written = segment.getKey();
+            for (Map<Long, SlotDelta> slots : deltas.values()) {
+                slots.keySet().removeIf(
+                    slotStart -> Math.floorDiv(slotStart, SEGMENT_MILLIS) == written);
+            }
+        }
+    }
+
+    void load(RecordConsumer consumer) throws IOException {
+        for (Path file : segmentFiles()) {
+            long validLength = 0;
+            try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+                int recordSize;
+                while ((recordSize = readRecord(in, consumer)) > 0) {
+                    validLength += recordSize;
+                }
+            }
+            if (validLength < Files.size(file)) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes every segment file whose time buckets all start before the given time.
+     */
+    void deleteBefore(long cutoffMillis) throws IOException {
+        for (Path file : segmentFiles()) {
+            long segmentEnd = (segmentNumber(file) + 1) * SEGMENT_MILLIS;
+            if (segmentEnd <= cutoffMillis) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Path segmentFile(long segment) {
+        return directory.resolve(PREFIX + segment + SUFFIX);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+            PREFIX + "*" + SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files, (a, b) -> Long.compare(segmentNumber(a), segmentNumber(b)));
+        return files;
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static void writeRecord(DataOutputStream out, SeriesKey key, long slotStartMillis,
+        SlotDelta delta) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        DataOutputStream record = new DataOutputStream(body);
+        record.writeUTF(key.getMethod());
+        String[] tags = key.tagArray();
+        record.writeShort(tags.length);
+        for (String tag : tags) {
+            record.writeUTF(tag);
+        }
+        record.writeLong(slotStartMillis);
+        record.writeLong(delta.sum);
+        record.writeLong(delta.min);
+        record.writeLong(delta.max);
+        SparseRow buckets = delta.buckets;
+        record.writeShort(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            record.writeShort(buckets.bucketIndexAt(i));
+            record.writeLong(buckets.countAt(i));
+        }
+        record.flush();
+        out.writeInt(body.size());
+        body.writeTo(out);
+    }
+
+    /**
+     * Reads one record and passes it to the consumer.
+     *
+     * @return the size of the record in bytes, or 0 at the end of the file or a torn record
+     */
+    private static int readRecord(DataInputStream in, RecordConsumer consumer)
+        throws IOException {
+        byte[] body;
+        try {
+            int length = in.readInt();
+            if (length <= 0 || length > MAX_RECORD_SIZE) {
+                return 0;
+            }
+            body = new byte[length];
+            in.readFully(body);
+        } catch (EOFException e) {
+            return 0;
+        }
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+        String method = record.readUTF();
+        String[] tags = new String[record.readUnsignedShort()];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = record.readUTF();
+        }
+        long slotStartMillis = record.readLong();
+        long sum = record.readLong();
+        long min = record.readLong();
+        long max = record.readLong();
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        int nonEmpty = record.readUnsignedShort();
+        for (int i = 0; i < nonEmpty; i++) {
+            int index = record.readUnsignedShort();
+            if (index >= counts.length) {
+                throw new IOException("Corrupt segment record: bucket " + index);
+            }
+            counts[index] = record.readLong();
+        }
+        consumer.accept(new SeriesKey(method, tags), slotStartMillis, counts, sum, min, max);
+        return Integer.BYTES + body.length;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Identifies one time series of a {@link TimeSeriesStore}: a method name plus an unordered set of
+ * tags.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SeriesKey {
+
+    private final String method;
+    private final String[] tags;
+    private final int hash;
+
+    /**
+     * Constructs a new SeriesKey. Tags are sorted and de-duplicated, so the order in which they
+     * are given does not matter.
+     *
+     * @param method the method name
+     * @param tags   the tags of the series
+     */
+    public SeriesKey(String method, String... tags) {
+        this.method = Objects.requireNonNull(method, "method");
+        this.tags = Arrays.stream(tags).distinct().sorted().toArray(String[]::new);
+        this.hash = 31 * method.hashCode() + Arrays.hashCode(this.tags);
+    }
+
+    /**
+     * Returns the method name.
+     *
+     * @return the method name
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the sorted tags.
+     *
+     * @return an unmodifiable list of tags
+     */
+    public List<String> getTags() {
+        return Collections.unmodifiableList(Arrays.asList(tags));
+    }
+
+    /**
+     * Returns whether this series carries all of the given tags.
+     *
+     * @param required the tags to look for
+     * @return true if every required tag is present
+     */
+    public boolean hasTags(String... required) {
+        for (String tag : required) {
+            if (Arrays.binarySearch(tags, tag) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String[] tagArray() {
+        return tags;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SeriesKey)) {
+            return false;
+        }
+        SeriesKey other = (SeriesKey) o;
+        return method.equals(other.method) && Arrays.equals(tags, other.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return tags.length == 0 ? method : method + Arrays.toString(tags);
+    }
+}
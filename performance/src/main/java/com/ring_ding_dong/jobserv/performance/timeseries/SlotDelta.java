@@ -0,0 +1,31 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+
+/**
+ * The values recorded into one finest time bucket of a series since the previous flush, held as a
+ * {@link SparseRow} plus the sum, minimum and maximum that a segment record carries. Deltas are not
+ * thread-safe; {@link TimeSeries} guards them with its own lock.
+ */
+final class SlotDelta {
+
+    final SparseRow buckets = new SparseRow();
+    long sum;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+
+    void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets.add(LatencyHistogram.bucketIndex(clamped), 1);
+        sum += clamped;
+        min = Math.min(min, clamped);
+        max = Math.max(max, clamped);
+    }
+
+    void merge(SlotDelta other) {
+        buckets.addAll(other.buckets);
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.util.Arrays;
+
+/**
+ * The non-empty buckets of one {@link LatencyHistogram}-shaped distribution, kept sorted by bucket
+ * index. An entry packs the bucket index into the top {@value #INDEX_BITS} bits of a long and the
+ * bucket count into the rest.
+ *
+ * <p>The values of one time bucket rarely spread over more than a few dozen histogram buckets, so a
+ * row costs a few hundred bytes instead of a dense array of {@link LatencyHistogram#BUCKET_COUNT}
+ * longs. Rows grow on demand and keep their capacity when cleared. Rows are not thread-safe.</p>
+ */
+final class SparseRow {
+
+    private static final int INDEX_BITS = 10;
+    private static final int COUNT_BITS = Long.SIZE - INDEX_BITS;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] entries;
+    private int length;
+
+    /**
+     * Adds to the count of one bucket, inserting the bucket if it is not in the row yet.
+     */
+    void add(int bucketIndex, long count) {
+        int low = 0;
+        int high = length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleIndex = bucketIndexAt(middle);
+            if (middleIndex < bucketIndex) {
+                low = middle + 1;
+            } else if (middleIndex > bucketIndex) {
+                high = middle - 1;
+            } else {
+                entries[middle] += count;
+                return;
+            }
+        }
+        if (entries == null) {
+            entries = new long[INITIAL_CAPACITY];
+        } else if (length == entries.length) {
+            entries = Arrays.copyOf(entries,
+                Math.min(length * 2, LatencyHistogram.BUCKET_COUNT));
+        }
+        System.arraycopy(entries, low, entries, low + 1, length - low);
+        entries[low] = (long) bucketIndex << COUNT_BITS | count;
+        length++;
+    }
+
+    /**
+     * Adds every bucket of the given row to this one.
+     */
+    void addAll(SparseRow other) {
+        for (int i = 0; i < other.length; i++) {
+            add(other.bucketIndexAt(i), other.countAt(i));
+        }
+    }
+
+    /**
+     * Adds every bucket of this row to a dense array of bucket counts.
+     */
+    void addTo(long[] bucketCounts) {
+        for (int i = 0; i < length; i++) {
+            bucketCounts[bucketIndexAt(i)] += countAt(i);
+        }
+    }
+
+    int size() {
+        return length;
+    }
+
+    int bucketIndexAt(int position) {
+        return (int) (entries[position] >>> COUNT_BITS);
+    }
+
+    long countAt(int position) {
+        return entries[position] & COUNT_MASK;
+    }
+
+    void clear() {
+        length = 0;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A handle to one series of a {@link TimeSeriesStore}. Recording through a handle skips the series
+ * lookup of {@link TimeSeriesStore#record(String, String[], long, long)}, so callers on hot paths
+ * should obtain the handle once through {@link TimeSeriesStore#series(String, String...)} and keep
+ * it.
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TimeSeries {
+
+    private final TimeSeriesStore store;
+    private final SeriesKey key;
+    private final RollupColumns[] columns;
+    private final long flushResolutionMillis;
+    private Map<Long, SlotDelta> unflushed;
+    private long currentSlotStart;
+    private SlotDelta currentDelta;
+
+    TimeSeries(TimeSeriesStore store, SeriesKey key, RollupColumns[] columns,
+        long flushResolutionMillis) {
+        this.store = store;
+        this.key = key;
+        this.columns = columns;
+        this.flushResolutionMillis = flushResolutionMillis;
+        this.unflushed = new HashMap<>();
+    }
+
+    /**
+     * Returns the key of this series.
+     *
+     * @return the series key
+     */
+    public SeriesKey getKey() {
+        return key;
+    }
+
+    /**
+     * Records one measurement into every rollup of this series.
+     *
+     * @param timestampMillis the wall-clock time of the measurement
+     * @param durationNanos   the measured duration in nanoseconds
+     */
+    public void record(long timestampMillis, long durationNanos) {
+        for (RollupColumns rollup : columns) {
+            rollup.record(timestampMillis, durationNanos);
+        }
+        store.observe(timestampMillis);
+        if (store.isPersistent()) {
+            long slotStart = Math.floorDiv(timestampMillis, flushResolutionMillis)
+                * flushResolutionMillis;
+            boolean opened = false;
+            synchronized (this) {
+                if (slotStart != currentSlotStart || currentDelta == null) {
+                    currentDelta = unflushed.get(slotStart);
+                    if (currentDelta == null) {
+                        currentDelta = new SlotDelta();
+                        unflushed.put(slotStart, currentDelta);
+                        opened = true;
+                    }
+                    currentSlotStart = slotStart;
+                }
+                currentDelta.record(durationNanos);
+            }
+            if (opened) {
+                store.slotOpened();
+            }
+        }
+    }
+
+    /**
+     * Adds previously persisted values to every rollup, without marking them as unflushed.
+     */
+    void restore(long slotStartMillis, long[] bucketCounts, long sum, long min, long max) {
+        for (RollupColumns rollup : columns) {
+            rollup.add(slotStartMillis, bucketCounts, sum, min, max);
+        }
+        store.observe(slotStartMillis);
+    }
+
+    boolean mergeInto(int rollupIndex, long fromMillis, long toMillis,
+        RollupColumns.Accumulator accumulator) {
+        return columns[rollupIndex].mergeInto(fromMillis, toMillis, accumulator);
+    }
+
+    /**
+     * Returns the values recorded since the previous call, keyed by the start of their finest
+     * time bucket.
+     */
+    synchronized Map<Long, SlotDelta> drainUnflushed() {
+        Map<Long, SlotDelta> drained = unflushed;
+        unflushed = new HashMap<>();
+        currentDelta = null;
+        return drained;
+    }
+
+    /**
+     * Puts drained values that could not be written back, merging them with values recorded in
+     * the meantime.
+     *
+     * @return the number of time buckets that had been recorded into again, and so were merged
+     */
+    synchronized int returnUnflushed(Map<Long, SlotDelta> deltas) {
+        int merged = 0;
+        for (Map.Entry<Long, SlotDelta> slot : deltas.entrySet()) {
+            SlotDelta recorded = unflushed.putIfAbsent(slot.getKey(), slot.getValue());
+            if (recorded != null) {
+                recorded.merge(slot.getValue());
+                merged++;
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selects the series and time range to merge in {@link TimeSeriesStore#query(TimeSeriesQuery)}.
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * // p99 of "findOrder" over the last 6 hours, across all series tagged "eu-west"
+ * QueryResult result = store.query(TimeSeriesQuery.last(6, TimeUnit.HOURS, "findOrder", "eu-west"));
+ * long p99 = result.getValueAtPercentile(99.0);
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TimeSeriesQuery {
+
+    private final long fromMillis;
+    private final long toMillis;
+    private final String method;
+    private final String[] tags;
+
+    /**
+     * Constructs a new TimeSeriesQuery.
+     *
+     * @param fromMillis the start of the range, inclusive
+     * @param toMillis   the end of the range, exclusive
+     * @param method     the method to select, or null to select every method
+     * @param tags       the tags a series must carry to be selected
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public TimeSeriesQuery(long fromMillis, long toMillis, String method, String... tags) {
+        if (toMillis <= fromMillis) {
+            throw new IllegalArgumentException("Query range is empty");
+        }
+        this.fromMillis = fromMillis;
+        this.toMillis = toMillis;
+        this.method = method;
+        this.tags = tags.clone();
+    }
+
+    /**
+     * Creates a query for the given duration up to now.
+     *
+     * @param duration the length of the range
+     * @param unit     the time unit of the duration
+     * @param method   the method to select, or null to select every method
+     * @param tags     the tags a series must carry to be selected
+     * @return the query
+     */
+    public static TimeSeriesQuery last(long duration, TimeUnit unit, String method,
+        String... tags) {
+        long now = System.currentTimeMillis();
+        return new TimeSeriesQuery(now - unit.toMillis(duration), now + 1, method, tags);
+    }
+
+    /**
+     * Returns the start of the range.
+     *
+     * @return the inclusive start in milliseconds since the epoch
+     */
+    public long getFromMillis() {
+        return fromMillis;
+    }
+
+    /**
+     * Returns the end of the range.
+     *
+     * @return the exclusive end in milliseconds since the epoch
+     */
+    public long getToMillis() {
+        return toMillis;
+    }
+
+    /**
+     * Returns the selected method.
+     *
+     * @return the method name, or null if every method is selected
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    boolean matches(SeriesKey key) {
+        return (method == null || method.equals(key.getMethod())) && key.hasTags(tags);
+    }
+}
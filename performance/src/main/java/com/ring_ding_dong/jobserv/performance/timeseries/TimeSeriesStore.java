@@ -0,0 +1,342 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An embedded time-series store that rolls measurements up into fixed-width time buckets of
+ * mergeable {@link LatencyHistogram}s, so that questions such as "p99 of method X over the last 6
+ * hours" are answered from a bounded amount of memory instead of a scan over raw events.
+ *
+ * <p>Every series (a method name plus tags) keeps one ring of time buckets per {@link Rollup},
+ * stored in columnar primitive arrays. Queries read from the finest rollup that still retains the
+ * start of the requested range.</p>
+ *
+ * <p>A store created with a directory persists its values to append-only segment files on
+ * {@link #flush()} and {@link #close()}, and rebuilds every rollup from those files when it is
+ * opened again. Values not yet written are held per series and finest time bucket; once more than
+ * a configured number of such buckets are pending, the recording thread that opens the next one
+ * flushes the store, so memory stays bounded even if the owner never calls {@link #flush()}.</p>
+ *
+ * <p>Usage example:
+ * <pre>
+ * {@code
+ * TimeSeriesStore store = new TimeSeriesStore(Paths.get("metrics"), Rollup.defaults());
+ * TimeSeries series = store.series("findOrder", "eu-west");
+ * series.record(System.currentTimeMillis(), durationNanos);
+ * QueryResult result = store.query(TimeSeriesQuery.last(6, TimeUnit.HOURS, "findOrder"));
+ * store.close();
+ * }
+ * </pre>
+ *
+ * @author chimaek
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TimeSeriesStore implements Closeable {
+
+    /**
+     * Default number of unwritten finest time buckets, over all series, after which a persistent
+     * store flushes itself.
+     */
+    public static final int DEFAULT_MAX_UNFLUSHED_SLOTS = 4096;
+
+    private final List<Rollup> rollups;
+    private final ConcurrentHashMap<SeriesKey, TimeSeries> series;
+    private final LongAccumulator latestTimestamp;
+    private final SegmentLog segmentLog;
+    private final int maxUnflushedSlots;
+    private final AtomicLong unflushedSlots;
+    private final ReentrantLock flushLock;
+
+    /**
+     * Constructs a new in-memory TimeSeriesStore with the {@link Rollup#defaults() default}
+     * rollups.
+     */
+    public TimeSeriesStore() {
+        this(Rollup.defaults());
+    }
+
+    /**
+     * Constructs a new in-memory TimeSeriesStore.
+     *
+     * @param rollups the rollups to maintain
+     * @throws IllegalArgumentException if the rollups are invalid, see
+     *                                  {@link #TimeSeriesStore(Path, List)}
+     */
+    public TimeSeriesStore(List<Rollup> rollups) {
+        this.rollups = validate(rollups);
+        this.series = new ConcurrentHashMap<>();
+        this.latestTimestamp = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        this.segmentLog = null;
+        this.maxUnflushedSlots = DEFAULT_MAX_UNFLUSHED_SLOTS;
+        this.unflushedSlots = new AtomicLong();
+        this.flushLock = new ReentrantLock();
+    }
+
+    /**
+     * Opens a persistent TimeSeriesStore in the given directory, restoring all values previously
+     * flushed to it. The store flushes itself after {@value #DEFAULT_MAX_UNFLUSHED_SLOTS} unwritten
+     * time buckets.
+     *
+     * @param directory the directory holding the segment files; created if necessary
+     * @param rollups   the rollups to maintain; every resolution must be a multiple of the finest
+     * @throws IOException              if the segment files cannot be read
+     * @throws IllegalArgumentException if no rollup is given, if two rollups share a resolution,
+     *                                  or if a resolution is not a multiple of the finest one
+     */
+    public TimeSeriesStore(Path directory, List<Rollup> rollups) throws IOException {
+        this(directory, rollups, DEFAULT_MAX_UNFLUSHED_SLOTS);
+    }
+
+    /**
+     * Opens a persistent TimeSeriesStore in the given directory, restoring all values previously
+     * flushed to it.
+     *
+     * <p>Whenever the number of unwritten finest time buckets, over all series, reaches a multiple
+     * of {@code maxUnflushedSlots}, the recording thread flushes the store unless another flush is
+     * in progress. If that flush fails, the values are kept and written by the next flush.</p>
+     *
+     * @param directory         the directory holding the segment files; created if necessary
+     * @param rollups           the rollups to maintain; every resolution must be a multiple of the
+     *                          finest
+     * @param maxUnflushedSlots the number of unwritten time buckets after which the store flushes
+     *                          itself
+     * @throws IOException              if the segment files cannot be read
+     * @throws IllegalArgumentException if {@code maxUnflushedSlots} is not positive, if no rollup
+     *                                  is given, if two rollups share a resolution, or if a
+     *                                  resolution is not a multiple of the finest one
+     */
+    public TimeSeriesStore(Path directory, List<Rollup> rollups, int maxUnflushedSlots)
+        throws IOException {
+        if (maxUnflushedSlots <= 0) {
+            throw new IllegalArgumentException(
+                "maxUnflushedSlots must be positive: " + maxUnflushedSlots);
+        }
+        this.rollups = validate(rollups);
+        this.series = new ConcurrentHashMap<>();
+        this.latestTimestamp = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        this.maxUnflushedSlots = maxUnflushedSlots;
+        this.unflushedSlots = new AtomicLong();
+        this.flushLock = new ReentrantLock();
+        this.segmentLog = new SegmentLog(directory);
+        this.segmentLog.load((key, slotStart, counts, sum, min, max) ->
+            seriesFor(key).restore(slotStart, counts, sum, min, max));
+    }
+
+    private static List<Rollup> validate(List<Rollup> rollups) {
+        if (rollups.isEmpty()) {
+            throw new IllegalArgumentException("At least one rollup is required");
+        }
+        List<Rollup> sorted = new ArrayList<>(rollups);
+        sorted.sort(Comparator.comparingLong(Rollup::getResolutionMillis));
+        long finest = sorted.get(0).getResolutionMillis();
+        for (int i = 0; i < sorted.size(); i++) {
+            long resolution = sorted.get(i).getResolutionMillis();
+            if (resolution % finest != 0) {
+                throw new IllegalArgumentException(
+                    "Resolution " + resolution + "ms is not a multiple of " + finest + "ms");
+            }
+            if (i > 0 && resolution == sorted.get(i - 1).getResolutionMillis()) {
+                throw new IllegalArgumentException("Duplicate resolution " + resolution + "ms");
+            }
+        }
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Returns the rollups of this store.
+     *
+     * @return the rollups, finest first
+     */
+    public List<Rollup> getRollups() {
+        return rollups;
+    }
+
+    /**
+     * Returns the handle of the given series, creating the series if necessary.
+     *
+     * @param method the method name
+     * @param tags   the tags of the series
+     * @return the series handle
+     */
+    public TimeSeries series(String method, String... tags) {
+        return seriesFor(new SeriesKey(method, tags));
+    }
+
+    /**
+     * Records one measurement. Callers recording at a high rate should keep the handle returned by
+     * {@link #series(String, String...)} instead.
+     *
+     * @param method          the method name
+     * @param tags            the tags of the series
+     * @param timestampMillis the wall-clock time of the measurement
+     * @param durationNanos   the measured duration in nanoseconds
+     */
+    public void record(String method, String[] tags, long timestampMillis, long durationNanos) {
+        series(method, tags).record(timestampMillis, durationNanos);
+    }
+
+    /**
+     * Merges the distributions of every series selected by the query.
+     *
+     * @param query the series and time range to merge
+     * @return the merged result; empty if no series holds values in the range
+     */
+    public QueryResult query(TimeSeriesQuery query) {
+        int rollupIndex = selectRollup(query.getFromMillis());
+        RollupColumns.Accumulator accumulator = new RollupColumns.Accumulator();
+        int matched = 0;
+        for (TimeSeries candidate : series.values()) {
+            if (query.matches(candidate.getKey()) && candidate.mergeInto(rollupIndex,
+                query.getFromMillis(), query.getToMillis(), accumulator)) {
+                matched++;
+            }
+        }
+        return new QueryResult(accumulator.toHistogram(),
+            rollups.get(rollupIndex).getResolutionMillis(), matched);
+    }
+
+    /**
+     * Lists the keys of every series in this store.
+     *
+     * @return the series keys
+     */
+    public List<SeriesKey> getSeriesKeys() {
+        return new ArrayList<>(series.keySet());
+    }
+
+    /**
+     * Appends every value recorded since the previous flush to the segment files, and deletes
+     * segment files older than the longest retention. Does nothing for an in-memory store. Values
+     * that could not be written are kept for the next flush.
+     *
+     * @throws IOException if the segment files cannot be written
+     */
+    public void flush() throws IOException {
+        if (segmentLog == null) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            writeUnflushed();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes all unwritten values. The store must not be used afterwards.
+     *
+     * @throws IOException if the segment files cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    boolean isPersistent() {
+        return segmentLog != null;
+    }
+
+    void observe(long timestampMillis) {
+        latestTimestamp.accumulate(timestampMillis);
+    }
+
+    /**
+     * Counts a newly opened unwritten time bucket, flushing the store when the count reaches a
+     * multiple of the limit. Must not be called while holding the lock of a series.
+     */
+    void slotOpened() {
+        if (unflushedSlots.incrementAndGet() % maxUnflushedSlots != 0
+            || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            writeUnflushed();
+        } catch (IOException e) {
+            // The values are back in their series; the next flush writes them.
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writeUnflushed() throws IOException {
+        Map<SeriesKey, Map<Long, SlotDelta>> deltas = new LinkedHashMap<>();
+        long drained = 0;
+        for (TimeSeries candidate : series.values()) {
+            Map<Long, SlotDelta> slots = candidate.drainUnflushed();
+            if (!slots.isEmpty()) {
+                deltas.put(candidate.getKey(), slots);
+                drained += slots.size();
+            }
+        }
+        try {
+            segmentLog.append(deltas);
+        } catch (IOException e) {
+            long returned = 0;
+            for (Map.Entry<SeriesKey, Map<Long, SlotDelta>> entry : deltas.entrySet()) {
+                Map<Long, SlotDelta> slots = entry.getValue();
+                returned += slots.size() - series.get(entry.getKey()).returnUnflushed(slots);
+            }
+            unflushedSlots.addAndGet(returned - drained);
+            throw e;
+        }
+        unflushedSlots.addAndGet(-drained);
+        long latest = latestTimestamp.get();
+        if (latest != Long.MIN_VALUE) {
+            long longestRetention = 0;
+            for (Rollup rollup : rollups) {
+                longestRetention = Math.max(longestRetention, rollup.getRetentionMillis());
+            }
+            segmentLog.deleteBefore(latest - longestRetention);
+        }
+    }
+
+    /**
+     * Returns the index of the finest rollup whose ring still covers the given time, or of the
+     * coarsest rollup if none does.
+     */
+    private int selectRollup(long fromMillis) {
+        long latest = latestTimestamp.get();
+        if (latest == Long.MIN_VALUE) {
+            return 0;
+        }
+        for (int i = 0; i < rollups.size(); i++) {
+            Rollup rollup = rollups.get(i);
+            long resolution = rollup.getResolutionMillis();
+            long oldestRetained = (Math.floorDiv(latest, resolution) - rollup.getSlotCount() + 1)
+                * resolution;
+            if (fromMillis >= oldestRetained) {
+                return i;
+            }
+        }
+        return rollups.size() - 1;
+    }
+
+    private TimeSeries seriesFor(SeriesKey key) {
+        TimeSeries existing = series.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return series.computeIfAbsent(key, k -> {
+            RollupColumns[] columns = new RollupColumns[rollups.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = new RollupColumns(rollups.get(i));
+            }
+            return new TimeSeries(this, k, columns, rollups.get(0).getResolutionMillis());
+        });
+    }
+}
@@ -0,0 +1,249 @@
+package com.ring_ding_dong.jobserv.performance.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.annotation.MeasureTime;
+import com.ring_ding_dong.jobserv.api.LogLevel;
+import com.ring_ding_dong.jobserv.api.TimeLogger;
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import com.ring_ding_dong.jobserv.core.MeasureTimeProcessor;
+import com.ring_ding_dong.jobserv.core.MeasurementPlan;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegressionDetectorTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final RegressionPolicy POLICY = new RegressionPolicy(99.0, 0.2, 0.15, 500, 100,
+        2_000);
+
+    @TempDir
+    Path directory;
+
+    private final List<RegressionEvent> events = new ArrayList<>();
+    private final Random random = new Random(42);
+
+    @Test
+    void testNoRegressionForSameDistribution() {
+        RegressionDetector detector = new RegressionDetector(baseline(10 * MILLI), POLICY,
+            events::add);
+        feed(detector, 10 * MILLI, 5_000);
+
+        assertTrue(events.isEmpty());
+        assertFalse(detector.isRegressed("findOrder"));
+    }
+
+    @Test
+    void testDetectsRegressionAndRecovery() {
+        RegressionDetector detector = new RegressionDetector(baseline(10 * MILLI), POLICY,
+            events::add);
+        feed(detector, 15 * MILLI, 1_000);
+
+        assertEquals(1, events.size());
+        RegressionEvent regression = events.get(0);
+        assertTrue(regression.isRegressed());
+        assertEquals("findOrder", regression.getMethodName());
+        assertTrue(regression.getRelativeChange() > 0.2);
+        assertTrue(regression.getDistance() > 0.5);
+        assertEquals(Collections.singleton("findOrder"), detector.getRegressedMethods());
+
+        feed(detector, 10 * MILLI, 10_000);
+
+        assertEquals(2, events.size());
+        assertFalse(events.get(1).isRegressed());
+        assertFalse(detector.isRegressed("findOrder"));
+    }
+
+    @Test
+    void testWaitsForMinimumSamples() {
+        RegressionDetector detector = new RegressionDetector(baseline(10 * MILLI), POLICY,
+            events::add);
+        feed(detector, 50 * MILLI, 400);
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void testMethodsWithoutBaselineAreIgnored() {
+        RegressionDetector detector = new RegressionDetector(baseline(10 * MILLI), POLICY,
+            events::add);
+        for (int i = 0; i < 1_000; i++) {
+            detector.onMeasurement("unknown", 50 * MILLI, null);
+        }
+
+        assertTrue(events.isEmpty());
+        assertNotNull(detector.snapshot().get("unknown"));
+    }
+
+    @Test
+    void testMethodsWithSameNameAreJudgedSeparately() throws Throwable {
+        MeasureTimeProcessor processor = new MeasureTimeProcessor(new NoOpLogger());
+        processor.process(Orders.class.getMethod("find"), new Object[0], new Orders());
+        processor.process(Archive.class.getMethod("find"), new Object[0], new Archive());
+        List<MeasurementPlan> plans = processor.getPlans();
+        assertEquals(2, plans.size());
+
+        RegressionDetector detector = new RegressionDetector(baseline(10 * MILLI), POLICY,
+            events::add);
+        for (int i = 0; i < 1_000; i++) {
+            detector.onMeasurement(plans.get(0), sample(15 * MILLI), null);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            detector.onMeasurement(plans.get(1), sample(10 * MILLI), null);
+        }
+
+        assertEquals(1, events.size());
+        assertTrue(detector.isRegressed("findOrder"));
+    }
+
+    @Test
+    void testDecayMissedAtWindowBoundaryIsAppliedLater() throws Exception {
+        CountDownLatch notified = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RegressionDetector detector = new RegressionDetector(baseline(10 * MILLI),
+            new RegressionPolicy(99.0, 0.2, 0.15, 10, 10, 20), event -> {
+                notified.countDown();
+                awaitQuietly(release);
+            });
+        Thread evaluating = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                detector.onMeasurement("findOrder", 50 * MILLI, null);
+            }
+        });
+        evaluating.start();
+        assertTrue(notified.await(10, TimeUnit.SECONDS));
+
+        // The window ends while the other thread still holds the comparison lock
+        for (int i = 0; i < 10; i++) {
+            detector.onMeasurement("findOrder", 50 * MILLI, null);
+        }
+        release.countDown();
+        evaluating.join();
+        detector.onMeasurement("findOrder", 50 * MILLI, null);
+
+        assertEquals(10, detector.snapshot().get("findOrder").getCount());
+    }
+
+    @Test
+    void testBaselineSurvivesSaveAndLoad() throws IOException {
+        RegressionDetector detector = new RegressionDetector(baseline(10 * MILLI), POLICY,
+            events::add);
+        feed(detector, 10 * MILLI, 1_000);
+        Path file = directory.resolve("baseline.bin");
+
+        BaselineSet saved = detector.snapshot();
+        saved.save(file);
+        BaselineSet loaded = BaselineSet.load(file);
+
+        LatencyHistogram expected = saved.get("findOrder");
+        LatencyHistogram actual = loaded.get("findOrder");
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getValueAtPercentile(99.0), actual.getValueAtPercentile(99.0));
+    }
+
+    @Test
+    void testLoadsJmhResult() throws IOException {
+        Path file = directory.resolve("jmh.json");
+        String json = "[{\"benchmark\": \"org.sample.OrderBenchmark.findOrder\", \"mode\": \"avgt\","
+            + " \"primaryMetric\": {\"score\": 2.0, \"scoreUnit\": \"ms/op\", \"scorePercentiles\":"
+            + " {\"0.0\": 1.0, \"50.0\": 2.0, \"100.0\": 3.0, \"99.9999\": \"NaN\"}}},"
+            + " {\"benchmark\": \"org.sample.OrderBenchmark.saveOrder\", \"mode\": \"sample\","
+            + " \"primaryMetric\": {\"score\": 1.5, \"scoreUnit\": \"us/op\","
+            + " \"rawDataHistogram\": [[[[1.0, 3], [2.0, 1]]]]}},"
+            + " {\"benchmark\": \"org.sample.OrderBenchmark.listOrders\", \"mode\": \"thrpt\","
+            + " \"primaryMetric\": {\"score\": 100.0, \"scoreUnit\": \"ops/s\"}}]";
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+
+        BaselineSet baseline = BaselineSet.loadJmhResult(file);
+
+        LatencyHistogram findOrder = baseline.get("findOrder");
+        assertEquals(1_000, findOrder.getCount());
+        assertWithinError(2 * MILLI, findOrder.getValueAtPercentile(50.0));
+        LatencyHistogram saveOrder = baseline.get("saveOrder");
+        assertEquals(4, saveOrder.getCount());
+        assertEquals(5_000, saveOrder.getSum());
+        assertEquals(null, baseline.get("listOrders"));
+    }
+
+    @Test
+    void testRejectsMalformedJmhResult() throws IOException {
+        Path file = directory.resolve("broken.json");
+        Files.write(file, "[{\"benchmark\": ".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> BaselineSet.loadJmhResult(file));
+    }
+
+    private BaselineSet baseline(long median) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            histogram.record(sample(median));
+        }
+        return new BaselineSet(Collections.singletonMap("findOrder", histogram));
+    }
+
+    private void feed(RegressionDetector detector, long median, int count) {
+        for (int i = 0; i < count; i++) {
+            detector.onMeasurement("findOrder", sample(median), null);
+        }
+    }
+
+    private long sample(long median) {
+        return (long) (median * Math.exp(random.nextGaussian() * 0.1));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error < 0.04, "expected ~" + expected + " but was " + actual);
+    }
+
+    public static class Orders {
+
+        @MeasureTime("findOrder")
+        public void find() {
+        }
+    }
+
+    public static class Archive {
+
+        @MeasureTime("findOrder")
+        public void find() {
+        }
+    }
+
+    private static class NoOpLogger implements TimeLogger {
+
+        @Override
+        public void log(LogLevel level, String message, Object... args) {
+        }
+
+        @Override
+        public void logExecutionTime(String methodName, long duration, TimeUnit timeUnit,
+            double threshold) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+class RollupMeasurementListenerTest {
+
+    @Test
+    void testRollsUpNanosecondDurationsPerMethod() {
+        TimeSeriesStore store = new TimeSeriesStore();
+        RollupMeasurementListener listener = new RollupMeasurementListener(store, "eu-west");
+
+        long from = System.currentTimeMillis();
+        listener.onMeasurement("findOrder", 700, null);
+        listener.onMeasurement("findOrder", 1_300, new IllegalStateException());
+        listener.onMeasurement("saveOrder", 5_000, null);
+        long to = System.currentTimeMillis() + 1;
+
+        LatencyHistogram findOrder = store.query(new TimeSeriesQuery(from, to, "findOrder",
+            "eu-west")).getHistogram();
+        assertEquals(2, findOrder.getCount());
+        assertEquals(2_000, findOrder.getSum());
+        assertEquals(700, findOrder.getMin());
+        assertEquals(2, store.getSeriesKeys().size());
+    }
+}
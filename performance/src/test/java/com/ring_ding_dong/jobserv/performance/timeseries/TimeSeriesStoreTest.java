@@ -0,0 +1,220 @@
+package com.ring_ding_dong.jobserv.performance.timeseries;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ring_ding_dong.jobserv.common.histogram.LatencyHistogram;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TimeSeriesStoreTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final List<Rollup> ROLLUPS = Arrays.asList(
+        new Rollup(10, 600, TimeUnit.SECONDS),
+        new Rollup(1, 60, TimeUnit.MINUTES),
+        new Rollup(1, 24, TimeUnit.HOURS));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testQueryMergesRangeAndMethod() {
+        TimeSeriesStore store = new TimeSeriesStore(ROLLUPS);
+        for (int second = 0; second < 60; second++) {
+            store.record("findOrder", new String[0], START + second * 1_000L,
+                TimeUnit.MILLISECONDS.toNanos(second + 1));
+            store.record("saveOrder", new String[0], START + second * 1_000L,
+                TimeUnit.SECONDS.toNanos(1));
+        }
+
+        QueryResult all = store.query(new TimeSeriesQuery(START, START + 60_000, "findOrder"));
+        assertEquals(60, all.getCount());
+        assertEquals(10_000, all.getResolutionMillis());
+        assertWithinError(TimeUnit.MILLISECONDS.toNanos(60), all.getValueAtPercentile(100.0));
+
+        QueryResult firstHalf = store.query(new TimeSeriesQuery(START, START + 30_000, "findOrder"));
+        assertEquals(30, firstHalf.getCount());
+        assertWithinError(TimeUnit.MILLISECONDS.toNanos(30), firstHalf.getValueAtPercentile(100.0));
+
+        QueryResult everyMethod = store.query(new TimeSeriesQuery(START, START + 60_000, null));
+        assertEquals(120, everyMethod.getCount());
+        assertEquals(2, everyMethod.getSeriesCount());
+    }
+
+    @Test
+    void testQueryFiltersByTags() {
+        TimeSeriesStore store = new TimeSeriesStore(ROLLUPS);
+        store.series("findOrder", "eu", "primary").record(START, 1_000);
+        store.series("findOrder", "us", "primary").record(START, 2_000);
+
+        assertEquals(2, store.query(new TimeSeriesQuery(START, START + 1, "findOrder", "primary"))
+            .getCount());
+        assertEquals(1, store.query(new TimeSeriesQuery(START, START + 1, "findOrder", "eu"))
+            .getCount());
+        assertEquals(0, store.query(new TimeSeriesQuery(START, START + 1, "findOrder", "asia"))
+            .getCount());
+    }
+
+    @Test
+    void testOldRangesAreServedByCoarserRollups() {
+        TimeSeriesStore store = new TimeSeriesStore(ROLLUPS);
+        TimeSeries series = store.series("findOrder");
+        long twoHours = TimeUnit.HOURS.toMillis(2);
+        for (long t = 0; t <= twoHours; t += 5_000) {
+            series.record(START + t, 1_000);
+        }
+
+        QueryResult recent = store.query(new TimeSeriesQuery(START + twoHours - 60_000,
+            START + twoHours + 1, "findOrder"));
+        assertEquals(10_000, recent.getResolutionMillis());
+
+        QueryResult wholeRange = store.query(new TimeSeriesQuery(START, START + twoHours + 1,
+            "findOrder"));
+        assertEquals(TimeUnit.HOURS.toMillis(1), wholeRange.getResolutionMillis());
+        assertEquals(twoHours / 5_000 + 1, wholeRange.getCount());
+    }
+
+    @Test
+    void testRetentionDropsExpiredSlots() {
+        TimeSeriesStore store = new TimeSeriesStore(Arrays.asList(
+            new Rollup(10, 60, TimeUnit.SECONDS)));
+        TimeSeries series = store.series("findOrder");
+        series.record(START, 1_000);
+        series.record(START + 120_000, 1_000);
+        series.record(START, 1_000);
+
+        assertEquals(1, store.query(new TimeSeriesQuery(START - 1, START + 200_000, "findOrder"))
+            .getCount());
+    }
+
+    @Test
+    void testSlotsKeepEveryHistogramBucket() {
+        TimeSeriesStore store = new TimeSeriesStore(ROLLUPS);
+        TimeSeries series = store.series("findOrder");
+        LatencyHistogram expected = new LatencyHistogram();
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong() >>> random.nextInt(64);
+            series.record(START + random.nextInt(60_000), value);
+            expected.record(value);
+        }
+
+        LatencyHistogram actual = store.query(new TimeSeriesQuery(START, START + 60_000,
+            "findOrder")).getHistogram();
+        assertArrayEquals(expected.getBucketCounts(), actual.getBucketCounts());
+        assertEquals(expected.getSum(), actual.getSum());
+        assertEquals(expected.getMin(), actual.getMin());
+        assertEquals(expected.getMax(), actual.getMax());
+    }
+
+    @Test
+    void testValuesSurviveReopen() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(directory, ROLLUPS)) {
+            store.series("findOrder", "eu").record(START, 1_000);
+            store.flush();
+            store.series("findOrder", "eu").record(START + 1_000, 3_000);
+            store.series("findOrder", "eu").record(START + TimeUnit.HOURS.toMillis(1), 5_000);
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(directory, ROLLUPS)) {
+            QueryResult result = reopened.query(new TimeSeriesQuery(START,
+                START + TimeUnit.HOURS.toMillis(2), "findOrder", "eu"));
+            assertEquals(3, result.getCount());
+            assertEquals(9_000, result.getHistogram().getSum());
+            assertEquals(1_000, result.getHistogram().getMin());
+            assertEquals(5_000, result.getHistogram().getMax());
+        }
+    }
+
+    @Test
+    void testRecoversFromTornRecord() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(directory, ROLLUPS)) {
+            store.series("findOrder").record(START, 1_000);
+            store.flush();
+            store.series("findOrder").record(START + 1_000, 2_000);
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow(IllegalStateException::new);
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(directory, ROLLUPS)) {
+            assertEquals(1, countFindOrder(reopened));
+            reopened.series("findOrder").record(START + 2_000, 3_000);
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(directory, ROLLUPS)) {
+            assertEquals(2, countFindOrder(reopened));
+        }
+    }
+
+    @Test
+    void testFlushesItselfAfterMaxUnflushedSlots() throws Exception {
+        TimeSeriesStore store = new TimeSeriesStore(directory, ROLLUPS, 2);
+        TimeSeries series = store.series("findOrder");
+        series.record(START, 1_000);
+        series.record(START + 1_000, 1_000);
+        series.record(START + 10_000, 2_000);
+        series.record(START + 20_000, 3_000);
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(directory, ROLLUPS)) {
+            assertEquals(3, countFindOrder(reopened));
+        }
+        store.close();
+        try (TimeSeriesStore reopened = new TimeSeriesStore(directory, ROLLUPS)) {
+            assertEquals(4, countFindOrder(reopened));
+        }
+    }
+
+    @Test
+    void testFailedFlushKeepsValues() throws Exception {
+        Path blocker = directory.resolve(
+            "segment-" + Math.floorDiv(START, TimeUnit.HOURS.toMillis(1)) + ".tsl");
+        try (TimeSeriesStore store = new TimeSeriesStore(directory, ROLLUPS)) {
+            store.series("findOrder").record(START, 1_000);
+            Files.createDirectory(blocker);
+            assertThrows(IOException.class, store::flush);
+            store.series("findOrder").record(START + 1_000, 2_000);
+            Files.delete(blocker);
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(directory, ROLLUPS)) {
+            assertEquals(2, countFindOrder(reopened));
+            assertEquals(3_000, reopened.query(new TimeSeriesQuery(START, START + 60_000,
+                "findOrder")).getHistogram().getSum());
+        }
+    }
+
+    @Test
+    void testInvalidRollups() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Rollup(10, 15, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeriesStore(Arrays.asList(
+            new Rollup(10, 60, TimeUnit.SECONDS), new Rollup(15, 60, TimeUnit.SECONDS))));
+    }
+
+    private static long countFindOrder(TimeSeriesStore store) {
+        return store.query(new TimeSeriesQuery(START, START + 60_000, "findOrder")).getCount();
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error < 0.04, "expected ~" + expected + " but was " + actual);
+    }
+}